@@ -26,8 +26,22 @@
 
 import static javax.tools.Diagnostic.Kind.ERROR;
 
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.filter.cause.After;
+import org.spongepowered.api.event.filter.cause.All;
+import org.spongepowered.api.event.filter.cause.Before;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.filter.cause.Last;
+import org.spongepowered.api.event.filter.cause.Named;
+import org.spongepowered.api.event.filter.cause.Root;
+import org.spongepowered.api.event.filter.data.Has;
+import org.spongepowered.api.event.filter.data.Supports;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.filter.type.Include;
 
 import java.util.List;
 import java.util.Set;
@@ -38,6 +52,7 @@
 import javax.annotation.processing.SupportedAnnotationTypes;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
@@ -56,6 +71,11 @@ public class ListenerProcessor extends AbstractProcessor {
 
     static final String LISTENER_ANNOTATION_CLASS = "org.spongepowered.api.event.Listener";
     private static final String EVENT_CLASS = Event.class.getName();
+    private static final String DATA_HOLDER_CLASS = DataHolder.class.getName();
+    private static final Set<String> SOURCE_ANNOTATIONS = ImmutableSet.of(Getter.class.getName(), First.class.getName(),
+            Last.class.getName(), Before.class.getName(), After.class.getName(), All.class.getName(), Root.class.getName(),
+            Named.class.getName());
+    private static final Set<String> DATA_ANNOTATIONS = ImmutableSet.of(Has.class.getName(), Supports.class.getName());
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
@@ -87,12 +107,40 @@ public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment
                 if (parameters.isEmpty() || !isTypeSubclass(parameters.get(0), EVENT_CLASS)) {
                     msg.printMessage(Diagnostic.Kind.ERROR, "method must have an Event as its first parameter", method);
                 }
+                if (method.getAnnotation(Include.class) != null && method.getAnnotation(Exclude.class) != null) {
+                    msg.printMessage(Diagnostic.Kind.ERROR, "method cannot be annotated with both @Include and @Exclude", method);
+                }
+                for (int i = 1; i < parameters.size(); i++) {
+                    checkFilterParameter(parameters.get(i), msg);
+                }
             }
         }
 
         return false;
     }
 
+    private void checkFilterParameter(VariableElement parameter, Messager msg) {
+        int sources = 0;
+        boolean data = false;
+        for (AnnotationMirror mirror : parameter.getAnnotationMirrors()) {
+            String name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (SOURCE_ANNOTATIONS.contains(name)) {
+                sources++;
+            } else if (DATA_ANNOTATIONS.contains(name)) {
+                data = true;
+            }
+        }
+        if (sources != 1) {
+            msg.printMessage(Diagnostic.Kind.ERROR, "parameter must be annotated with exactly one source annotation", parameter);
+        }
+        if (parameter.getAnnotation(All.class) != null && parameter.asType().getKind() != TypeKind.ARRAY) {
+            msg.printMessage(Diagnostic.Kind.ERROR, "parameter annotated with @All must be an array", parameter);
+        }
+        if (data && !isTypeSubclass(parameter, DATA_HOLDER_CLASS)) {
+            msg.printMessage(Diagnostic.Kind.ERROR, "parameter annotated with @Has or @Supports must be a DataHolder", parameter);
+        }
+    }
+
     private boolean isTypeSubclass(Element typedElement, String subclass) {
         Elements elements = this.processingEnv.getElementUtils();
         Types types = this.processingEnv.getTypeUtils();
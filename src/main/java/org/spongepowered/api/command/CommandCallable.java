@@ -26,11 +26,13 @@
 
 import org.spongepowered.api.command.spec.CommandSpec;
 import org.spongepowered.api.text.Text;
+import org.spongepowered.api.util.Functional;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nullable;
 
@@ -56,6 +58,36 @@ public interface CommandCallable {
      */
     CommandResult process(CommandSource source, String arguments) throws CommandException;
 
+    /**
+     * Execute the command based on input arguments, allowing the execution
+     * to be performed off the calling thread.
+     *
+     * <p>This method must be called on the main thread. Permission checks and
+     * the parsing of the arguments are performed before this method returns,
+     * while the execution itself may be offloaded to another thread by
+     * commands that opt into asynchronous execution, such as a
+     * {@link CommandSpec.Builder#async(Object) CommandSpec}. The returned
+     * future is always completed on the main thread, so callbacks attached
+     * to it may safely interact with the game.</p>
+     *
+     * <p>While the command is executing off the main thread, it may only
+     * use the thread-safe parts of the {@link CommandSource}, such as its
+     * permissions and sending it messages, and should not otherwise access
+     * the game. Arguments are parsed into a new context, which is handed to
+     * the executing thread and not touched by the caller afterwards.</p>
+     *
+     * <p>The default implementation executes the command synchronously
+     * through {@link #process(CommandSource, String)}.</p>
+     *
+     * @param source The caller of the command
+     * @param arguments The raw arguments for this command
+     * @return The future result of the command, completed exceptionally
+     *     with a {@link CommandException} on a command error
+     */
+    default CompletableFuture<CommandResult> processAsync(CommandSource source, String arguments) {
+        return Functional.failableFuture(() -> process(source, arguments));
+    }
+
     /**
      * Gets a list of suggestions based on input.
      *
@@ -71,6 +103,27 @@ public interface CommandCallable {
      */
     List<String> getSuggestions(CommandSource source, String arguments, @Nullable  Location<World> targetPosition) throws CommandException;
 
+    /**
+     * Gets a list of suggestions based on input, allowing them to be computed
+     * off the calling thread.
+     *
+     * <p>The same threading rules apply as for
+     * {@link #processAsync(CommandSource, String)}. The default implementation
+     * computes the suggestions synchronously through
+     * {@link #getSuggestions(CommandSource, String, Location)}.</p>
+     *
+     * @param source The command source
+     * @param arguments The arguments entered up to this point
+     * @param targetPosition The position the source is looking at when
+     *     performing tab completion
+     * @return The future list of suggestions, completed exceptionally with a
+     *     {@link CommandException} if there was a parsing error
+     */
+    default CompletableFuture<List<String>> getSuggestionsAsync(CommandSource source, String arguments,
+            @Nullable Location<World> targetPosition) {
+        return Functional.failableFuture(() -> getSuggestions(source, arguments, targetPosition));
+    }
+
     /**
      * Test whether this command can probably be executed by the given source.
      *
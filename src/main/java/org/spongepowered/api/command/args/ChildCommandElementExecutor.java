@@ -28,6 +28,7 @@
 import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
 import org.spongepowered.api.command.CommandCallable;
 import org.spongepowered.api.command.CommandException;
@@ -38,13 +39,16 @@
 import org.spongepowered.api.command.spec.CommandExecutor;
 import org.spongepowered.api.command.spec.CommandSpec;
 import org.spongepowered.api.text.Text;
+import org.spongepowered.api.util.Functional;
 import org.spongepowered.api.util.StartsWithPredicate;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nullable;
@@ -184,8 +188,81 @@ public CommandResult execute(CommandSource src, CommandContext args) throws Comm
         return mapping.getCallable().process(src, arguments);
     }
 
+    /**
+     * Execute the child command selected while parsing, honoring the
+     * asynchronous execution mode of the child command.
+     *
+     * @param src The source executing the command
+     * @param args The parsed arguments
+     * @return The future result of the child command
+     * @see CommandCallable#processAsync(CommandSource, String)
+     */
+    public CompletableFuture<CommandResult> executeAsync(CommandSource src, CommandContext args) {
+        CommandMapping mapping = args.<CommandMapping>getOne(getUntranslatedKey()).orElse(null);
+        if (mapping == null) {
+            return Functional.failableFuture(() -> execute(src, args));
+        }
+        if (mapping.getCallable() instanceof CommandSpec) {
+            CommandSpec spec = ((CommandSpec) mapping.getCallable());
+            try {
+                spec.checkPermission(src);
+            } catch (CommandException e) {
+                return Functional.failedFuture(e);
+            }
+            return spec.executeAsync(src, args);
+        }
+        final String arguments = args.<String>getOne(getUntranslatedKey() + "_args").orElse("");
+        return mapping.getCallable().processAsync(src, arguments);
+    }
+
     @Override
     public Text getUsage(CommandSource src) {
         return this.dispatcher.getUsage(src);
     }
+
+    @Override
+    public Object getUsageKey(CommandSource src) {
+        // The usage lists the child commands the source has permission for
+        final Multimap<String, CommandMapping> commands = this.dispatcher.getAll();
+        final BitSet visible = new BitSet(commands.size());
+        int i = 0;
+        for (CommandMapping mapping : commands.values()) {
+            if (mapping.getCallable().testPermission(src)) {
+                visible.set(i);
+            }
+            i++;
+        }
+        return new UsageKey(commands, visible);
+    }
+
+    private static final class UsageKey {
+
+        private final Multimap<String, CommandMapping> commands;
+        private final BitSet visible;
+
+        UsageKey(Multimap<String, CommandMapping> commands, BitSet visible) {
+            this.commands = commands;
+            this.visible = visible;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof UsageKey)) {
+                return false;
+            }
+            UsageKey that = (UsageKey) o;
+            // Each registration publishes a new multimap, so comparing by
+            // identity is enough to tell the registered commands apart
+            return this.commands == that.commands && this.visible.equals(that.visible);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(this.commands) + this.visible.hashCode();
+        }
+
+    }
 }
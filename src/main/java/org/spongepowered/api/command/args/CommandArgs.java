@@ -30,10 +30,10 @@
 import org.spongepowered.api.text.Text;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Holder for command arguments.
@@ -117,7 +117,11 @@ public ArgumentParseException createError(Text message) {
      * @return all arguments
      */
     public List<String> getAll() {
-        return Collections.unmodifiableList(this.args.stream().map(SingleArg::getValue).collect(Collectors.toList()));
+        final String[] values = new String[this.args.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = this.args.get(i).getValue();
+        }
+        return Collections.unmodifiableList(Arrays.asList(values));
     }
 
     List<SingleArg> getArgs() {
@@ -41,6 +41,12 @@
 /**
  * Context that a command is executed in.
  * This object stores parsed arguments from other commands
+ *
+ * <p>A context is not thread-safe. When a command is executed
+ * {@link org.spongepowered.api.command.CommandCallable#processAsync
+ * asynchronously}, the context is populated on the calling thread and then
+ * handed over to the executing thread, after which only that thread may
+ * use it.</p>
  */
 public final class CommandContext {
 
@@ -28,6 +28,7 @@
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.TranslatableText;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.annotation.Nullable;
@@ -36,6 +37,23 @@
  * Represents a command argument element.
  */
 public abstract class CommandElement {
+
+    /**
+     * The usage key of elements whose usage does not depend on the source.
+     */
+    static final Object SOURCE_INDEPENDENT_USAGE = new Object();
+
+    private static final ClassValue<Boolean> OVERRIDES_USAGE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("getUsage", CommandSource.class).getDeclaringClass() != CommandElement.class;
+            } catch (NoSuchMethodException e) {
+                throw new AssertionError(e);
+            }
+        }
+    };
+
     @Nullable
     private final Text key;
 
@@ -126,4 +144,47 @@ public void parse(CommandSource source, CommandArgs args, CommandContext context
     public Text getUsage(CommandSource src) {
         return getKey() == null ? Text.of() : Text.of("<", getKey(), ">");
     }
+
+    /**
+     * Gets a key identifying the usage this element shows to the provided
+     * source. Sources for which equal keys are returned are shown the same
+     * {@link #getUsage(CommandSource) usage}, which allows it to be cached.
+     *
+     * <p>By default the usage is assumed to be independent of the source,
+     * unless {@link #getUsage(CommandSource)} is overridden, in which case
+     * it is never cached. Elements overriding the usage should override this
+     * as well.</p>
+     *
+     * @param src The source requesting usage
+     * @return The usage key, or {@code null} if the usage may not be cached
+     */
+    @Nullable
+    public Object getUsageKey(CommandSource src) {
+        return OVERRIDES_USAGE.get(getClass()) ? null : SOURCE_INDEPENDENT_USAGE;
+    }
+
+    /**
+     * Combines the usage keys of the provided elements, in order.
+     *
+     * @param src The source requesting usage
+     * @param elements The elements whose usage is combined
+     * @return The combined usage key, or {@code null} if any of the elements
+     *     may not be cached
+     */
+    @Nullable
+    static Object getUsageKey(CommandSource src, Iterable<CommandElement> elements) {
+        List<Object> keys = new ArrayList<>();
+        boolean sourceIndependent = true;
+        for (CommandElement element : elements) {
+            Object key = element.getUsageKey(src);
+            if (key == null) {
+                return null;
+            }
+            sourceIndependent &= key == SOURCE_INDEPENDENT_USAGE;
+            keys.add(key);
+        }
+        // The position of each key is kept, so equal lists always describe
+        // the same usage
+        return sourceIndependent ? SOURCE_INDEPENDENT_USAGE : keys;
+    }
 }
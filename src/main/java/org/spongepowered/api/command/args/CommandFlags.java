@@ -203,6 +203,16 @@ public Text getUsage(CommandSource src) {
         return Text.of(builder.toArray());
     }
 
+    @Nullable
+    @Override
+    public Object getUsageKey(CommandSource src) {
+        List<CommandElement> elements = new ArrayList<>(this.usageFlags.values());
+        if (this.childElement != null) {
+            elements.add(this.childElement);
+        }
+        return getUsageKey(src, elements);
+    }
+
     @Override
     protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
         return null;
@@ -29,6 +29,7 @@
 
 import com.flowpowered.math.vector.Vector3d;
 import com.google.common.base.Joiner;
+import com.google.common.collect.Collections2;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -211,6 +212,8 @@ public static CommandElement plugin(Text key) {
 
     private static class PluginCommandElement extends PatternMatchingCommandElement {
 
+        @Nullable private volatile PrefixIndex index;
+
         protected PluginCommandElement(@Nullable Text key) {
             super(key);
         }
@@ -220,6 +223,18 @@ protected Iterable<String> getChoices(CommandSource source) {
             return Sponge.getPluginManager().getPlugins().stream().map(PluginContainer::getId).collect(Collectors.toList());
         }
 
+        @Override
+        protected Optional<PrefixIndex> getChoiceIndex(CommandSource source) {
+            // Plugins are never removed, so the index is only outdated if
+            // the number of plugins has changed
+            final Collection<PluginContainer> plugins = Sponge.getPluginManager().getPlugins();
+            PrefixIndex index = this.index;
+            if (index == null || index.size() != plugins.size()) {
+                this.index = index = PrefixIndex.of(Collections2.transform(plugins, PluginContainer::getId));
+            }
+            return Optional.of(index);
+        }
+
         @Override
         protected Object getValue(String choice) throws IllegalArgumentException {
             Optional<PluginContainer> plugin = Sponge.getPluginManager().getPlugin(choice);
@@ -325,6 +340,12 @@ public Text getUsage(CommandSource commander) {
             }
             return build.build();
         }
+
+        @Nullable
+        @Override
+        public Object getUsageKey(CommandSource src) {
+            return getUsageKey(src, this.elements);
+        }
     }
 
     /**
@@ -444,6 +465,13 @@ public Text getUsage(CommandSource commander) {
             }
             return super.getUsage(commander);
         }
+
+        @Nullable
+        @Override
+        public Object getUsageKey(CommandSource src) {
+            // Listed choices are supplied on demand, so may change at any time
+            return this.choicesInUsage == Tristate.FALSE ? SOURCE_INDEPENDENT_USAGE : null;
+        }
     }
 
 
@@ -516,6 +544,12 @@ public Text getUsage(CommandSource commander) {
             }
             return ret.build();
         }
+
+        @Nullable
+        @Override
+        public Object getUsageKey(CommandSource src) {
+            return getUsageKey(src, this.elements);
+        }
     }
 
     /**
@@ -633,6 +667,12 @@ public List<String> complete(CommandSource src, CommandArgs args, CommandContext
         public Text getUsage(CommandSource src) {
             return Text.of("[", this.element.getUsage(src), "]");
         }
+
+        @Nullable
+        @Override
+        public Object getUsageKey(CommandSource src) {
+            return this.element.getUsageKey(src);
+        }
     }
 
     /**
@@ -690,6 +730,12 @@ public List<String> complete(CommandSource src, CommandArgs args, CommandContext
         public Text getUsage(CommandSource src) {
             return Text.of(this.times, '*', this.element.getUsage(src));
         }
+
+        @Nullable
+        @Override
+        public Object getUsageKey(CommandSource src) {
+            return this.element.getUsageKey(src);
+        }
     }
 
     /**
@@ -743,6 +789,12 @@ public List<String> complete(CommandSource src, CommandArgs args, CommandContext
         public Text getUsage(CommandSource context) {
             return Text.of(this.element.getUsage(context), CommandMessageFormatting.STAR_TEXT);
         }
+
+        @Nullable
+        @Override
+        public Object getUsageKey(CommandSource src) {
+            return this.element.getUsageKey(src);
+        }
     }
 
     // -- Argument types for basic java types
@@ -921,6 +973,7 @@ public static <T extends Enum<T>> CommandElement enumValue(Text key, Class<T> ty
     private static class EnumValueElement<T extends Enum<T>> extends PatternMatchingCommandElement {
         private final Class<T> type;
         private final Map<String, T> values;
+        private final PrefixIndex index;
 
         EnumValueElement(Text key, Class<T> type) {
             super(key);
@@ -934,6 +987,7 @@ public static <T extends Enum<T>> CommandElement enumValue(Text key, Class<T> ty
                                         "with the same name, only differing by capitalization, which is unsupported.");
                             }
                     ));
+            this.index = PrefixIndex.of(this.values.keySet());
         }
 
         @Override
@@ -941,6 +995,11 @@ protected Iterable<String> getChoices(CommandSource source) {
             return this.values.keySet();
         }
 
+        @Override
+        protected Optional<PrefixIndex> getChoiceIndex(CommandSource source) {
+            return Optional.of(this.index);
+        }
+
         @Override
         protected Object getValue(String choice) throws IllegalArgumentException {
             T value = this.values.get(choice.toLowerCase());
@@ -1007,6 +1066,11 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
         public Text getUsage(CommandSource src) {
             return Text.of(CommandMessageFormatting.LT_TEXT, getKey(), CommandMessageFormatting.ELLIPSIS_TEXT, CommandMessageFormatting.GT_TEXT);
         }
+
+        @Override
+        public Object getUsageKey(CommandSource src) {
+            return SOURCE_INDEPENDENT_USAGE;
+        }
     }
 
     /**
@@ -1084,6 +1148,11 @@ public List<String> complete(CommandSource src, CommandArgs args, CommandContext
         public Text getUsage(CommandSource src) {
             return Text.of(Joiner.on(' ').join(this.expectedArgs));
         }
+
+        @Override
+        public Object getUsageKey(CommandSource src) {
+            return SOURCE_INDEPENDENT_USAGE;
+        }
     }
 
     private static class UserCommandElement extends PatternMatchingCommandElement {
@@ -1189,6 +1258,11 @@ private Player tryReturnSource(CommandSource source, CommandArgs args) throws Ar
         public Text getUsage(CommandSource src) {
             return src instanceof Player && this.returnSource ? Text.of("[", super.getUsage(src), "]") : super.getUsage(src);
         }
+
+        @Override
+        public Object getUsageKey(CommandSource src) {
+            return src instanceof Player && this.returnSource ? Boolean.TRUE : SOURCE_INDEPENDENT_USAGE;
+        }
     }
 
     /**
@@ -1247,10 +1321,7 @@ public Object parseValue(CommandSource source, CommandArgs args) throws Argument
         public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
             Iterable<String> choices = getCompletionChoices(src);
             final Optional<String> nextArg = args.nextIfPresent();
-            if (nextArg.isPresent()) {
-                choices = Iterables.filter(choices, input -> getFormattedPattern(nextArg.get()).matcher(input).find());
-            }
-            return ImmutableList.copyOf(choices);
+            return nextArg.isPresent() ? filter(choices, nextArg.get()) : ImmutableList.copyOf(choices);
         }
 
         protected Iterable<String> getCompletionChoices(CommandSource source) {
@@ -1452,6 +1523,7 @@ public List<String> complete(CommandSource src, CommandArgs args, CommandContext
 
     private static class CatalogedTypeCommandElement<T extends CatalogType> extends PatternMatchingCommandElement {
         private final Class<T> catalogType;
+        @Nullable private volatile PrefixIndex index;
 
         protected CatalogedTypeCommandElement(Text key, Class<T> catalogType) {
             super(key);
@@ -1467,6 +1539,18 @@ protected Iterable<String> getChoices(CommandSource source) {
                 .collect(Collectors.toList());
         }
 
+        @Override
+        protected Optional<PrefixIndex> getChoiceIndex(CommandSource source) {
+            // Catalog types are never unregistered, so the index is only
+            // outdated if the number of types has changed
+            final Collection<T> types = Sponge.getGame().getRegistry().getAllOf(this.catalogType);
+            PrefixIndex index = this.index;
+            if (index == null || index.size() != types.size()) {
+                this.index = index = PrefixIndex.of(Collections2.transform(types, input -> input == null ? null : input.getId()));
+            }
+            return Optional.of(index);
+        }
+
         @Override
         protected Object getValue(String choice) throws IllegalArgumentException {
             final Optional<T> ret = Sponge.getGame().getRegistry().getType(this.catalogType, choice);
@@ -1510,6 +1594,12 @@ public Text getUsage(CommandSource src) {
             return this.element.getUsage(src);
         }
 
+        @Nullable
+        @Override
+        public Object getUsageKey(CommandSource src) {
+            return this.element.getUsageKey(src);
+        }
+
         @Nullable
         @Override
         protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
@@ -1575,6 +1665,12 @@ public void parse(CommandSource source, CommandArgs args, CommandContext context
         public Text getUsage(CommandSource src) {
             return this.element.getUsage(src);
         }
+
+        @Nullable
+        @Override
+        public Object getUsageKey(CommandSource src) {
+            return this.element.getUsageKey(src);
+        }
     }
 
     /**
@@ -1666,6 +1762,11 @@ private static Entity tryReturnSource(CommandSource source, CommandArgs args) th
         public Text getUsage(CommandSource src) {
             return src instanceof Player && this.returnSource ? Text.of("[", super.getUsage(src), "]") : super.getUsage(src);
         }
+
+        @Override
+        public Object getUsageKey(CommandSource src) {
+            return src instanceof Player && this.returnSource ? Boolean.TRUE : SOURCE_INDEPENDENT_USAGE;
+        }
     }
 
 }
@@ -27,7 +27,7 @@
 import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
 
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.text.Text;
 
@@ -40,9 +40,16 @@
 
 /**
  * Abstract command element that matches values based on pattern.
+ *
+ * <p>Input without regular expression metacharacters is matched as a
+ * case-insensitive prefix, using the index from
+ * {@link #getChoiceIndex(CommandSource)} if there is one. Other input is
+ * compiled once to a case-insensitive pattern anchored to the start of the
+ * choices.</p>
  */
 public abstract class PatternMatchingCommandElement extends CommandElement {
     private static final Text nullKeyArg = t("argument");
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
 
     protected PatternMatchingCommandElement(@Nullable Text key) {
         super(key);
@@ -52,30 +59,80 @@ protected PatternMatchingCommandElement(@Nullable Text key) {
     @Override
     protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
         final String unformattedPattern = args.next();
-        Pattern pattern = getFormattedPattern(unformattedPattern);
-        Iterable<String> filteredChoices = Iterables.filter(getChoices(source), element -> pattern.matcher(element).find());
+        final List<String> filteredChoices;
+        if (isLiteral(unformattedPattern)) {
+            final Optional<PrefixIndex> index = getChoiceIndex(source);
+            if (index.isPresent()) {
+                final Optional<String> exact = index.get().get(unformattedPattern);
+                if (exact.isPresent()) { // Match a single value
+                    return Collections.singleton(getValue(exact.get()));
+                }
+                filteredChoices = index.get().startingWith(unformattedPattern);
+            } else {
+                filteredChoices = filter(getChoices(source), unformattedPattern);
+            }
+        } else {
+            filteredChoices = filter(getChoices(source), unformattedPattern);
+        }
         for (String el : filteredChoices) { // Match a single value
             if (el.equalsIgnoreCase(unformattedPattern)) {
                 return Collections.singleton(getValue(el));
             }
         }
-        Iterable<Object> ret = Iterables.transform(filteredChoices, this::getValue);
 
-        if (!ret.iterator().hasNext()) {
+        if (filteredChoices.isEmpty()) {
             throw args.createError(t("No values matching pattern '%s' present for %s!", unformattedPattern, getKey() == null
                         ? nullKeyArg : getKey()));
         }
-        return ret;
+        return Lists.transform(filteredChoices, this::getValue);
     }
 
     @Override
     public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
-        Iterable<String> choices = getChoices(src);
         final Optional<String> nextArg = args.nextIfPresent();
-        if (nextArg.isPresent()) {
-            choices = Iterables.filter(choices, input -> getFormattedPattern(nextArg.get()).matcher(input).find());
+        if (nextArg.isPresent() && isLiteral(nextArg.get())) {
+            final Optional<PrefixIndex> index = getChoiceIndex(src);
+            if (index.isPresent()) {
+                return ImmutableList.copyOf(index.get().startingWith(nextArg.get()));
+            }
+        }
+        final Iterable<String> choices = getChoices(src);
+        return nextArg.isPresent() ? filter(choices, nextArg.get()) : ImmutableList.copyOf(choices);
+    }
+
+    /**
+     * Filters the given choices by the input, as a prefix or pattern.
+     *
+     * @param choices The choices to filter
+     * @param input The input to match against
+     * @return The matching choices
+     */
+    List<String> filter(Iterable<String> choices, String input) {
+        final ImmutableList.Builder<String> filtered = ImmutableList.builder();
+        if (isLiteral(input)) {
+            for (String choice : choices) {
+                if (choice != null && choice.regionMatches(true, 0, input, 0, input.length())) {
+                    filtered.add(choice);
+                }
+            }
+        } else {
+            final Pattern pattern = getFormattedPattern(input);
+            for (String choice : choices) {
+                if (choice != null && pattern.matcher(choice).find()) {
+                    filtered.add(choice);
+                }
+            }
         }
-        return ImmutableList.copyOf(choices);
+        return filtered.build();
+    }
+
+    private static boolean isLiteral(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if (REGEX_METACHARACTERS.indexOf(input.charAt(i)) != -1) {
+                return false;
+            }
+        }
+        return true;
     }
 
     Pattern getFormattedPattern(String input) {
@@ -94,6 +151,22 @@ Pattern getFormattedPattern(String input) {
      */
     protected abstract Iterable<String> getChoices(CommandSource source);
 
+    /**
+     * Gets an index of the choices for this command source, if one is
+     * available. Input that doesn't use any pattern syntax is looked up in
+     * the index instead of being matched against every choice.
+     *
+     * <p>The index must contain the same choices as
+     * {@link #getChoices(CommandSource)}. Implementations should build the
+     * index once and reuse it until their choices change.</p>
+     *
+     * @param source The source requesting choices
+     * @return The index of the choices, if available
+     */
+    protected Optional<PrefixIndex> getChoiceIndex(CommandSource source) {
+        return Optional.empty();
+    }
+
     /**
      * Gets the value for a given choice. For any result in
      * {@link #getChoices(CommandSource)}, this must return a non-null value.
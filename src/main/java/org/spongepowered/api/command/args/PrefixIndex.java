@@ -0,0 +1,164 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.args;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * An immutable index of choices, sorted case-insensitively so that all the
+ * choices starting with a prefix can be found with a binary search.
+ *
+ * <p>Choice providers whose choices rarely change can build an index once,
+ * and expose it through
+ * {@link PatternMatchingCommandElement#getChoiceIndex(CommandSource)}
+ * until their choices change.</p>
+ */
+public final class PrefixIndex {
+
+    private static final PrefixIndex EMPTY = new PrefixIndex(new String[0], new String[0]);
+
+    private final String[] choices;
+    private final String[] folded;
+
+    private PrefixIndex(String[] choices, String[] folded) {
+        this.choices = choices;
+        this.folded = folded;
+    }
+
+    /**
+     * Creates a new index of the given choices.
+     *
+     * @param choices The choices
+     * @return The new index
+     */
+    public static PrefixIndex of(Iterable<String> choices) {
+        checkNotNull(choices, "choices");
+        final List<String> list = new ArrayList<>();
+        for (String choice : choices) {
+            if (choice != null) {
+                list.add(choice);
+            }
+        }
+        if (list.isEmpty()) {
+            return EMPTY;
+        }
+        final String[][] entries = new String[list.size()][];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = new String[] {list.get(i), fold(list.get(i))};
+        }
+        Arrays.sort(entries, Comparator.comparing(entry -> entry[1]));
+        final String[] sortedChoices = new String[entries.length];
+        final String[] sortedFolded = new String[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            sortedChoices[i] = entries[i][0];
+            sortedFolded[i] = entries[i][1];
+        }
+        return new PrefixIndex(sortedChoices, sortedFolded);
+    }
+
+    static String fold(String input) {
+        final char[] chars = input.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Gets the number of choices in this index.
+     *
+     * @return The number of choices
+     */
+    public int size() {
+        return this.choices.length;
+    }
+
+    /**
+     * Gets all the choices in this index, sorted case-insensitively.
+     *
+     * @return The choices
+     */
+    public List<String> getChoices() {
+        return Collections.unmodifiableList(Arrays.asList(this.choices));
+    }
+
+    /**
+     * Gets the choices which start with the given prefix, ignoring case.
+     *
+     * @param prefix The prefix
+     * @return The matching choices
+     */
+    public List<String> startingWith(String prefix) {
+        final String foldedPrefix = fold(checkNotNull(prefix, "prefix"));
+        final int from = lowerBound(foldedPrefix);
+        // The choices starting with the prefix follow each other, find the
+        // first one after them
+        int low = from;
+        int high = this.folded.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (this.folded[mid].startsWith(foldedPrefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return Collections.unmodifiableList(Arrays.asList(this.choices).subList(from, low));
+    }
+
+    /**
+     * Gets the choice that is equal to the given input, ignoring case.
+     *
+     * @param input The input
+     * @return The choice, if found
+     */
+    public Optional<String> get(String input) {
+        final String foldedInput = fold(checkNotNull(input, "input"));
+        final int index = lowerBound(foldedInput);
+        return index < this.folded.length && this.folded[index].equals(foldedInput) ? Optional.of(this.choices[index]) : Optional.empty();
+    }
+
+    private int lowerBound(String folded) {
+        int low = 0;
+        int high = this.folded.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (this.folded[mid].compareTo(folded) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+}
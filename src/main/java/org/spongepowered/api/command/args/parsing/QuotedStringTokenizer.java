@@ -31,6 +31,8 @@
 import java.util.Collections;
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 /**
  * Parser for converting a quoted string into a list of arguments.
  *
@@ -44,6 +46,9 @@
  * UNQUOTED_ARG := (CHAR | ESCAPE)+ WHITESPACE
  * QUOTED_ARG := QUOTE (CHAR | ESCAPE)+ QUOTE
  * ARGS := ((UNQUOTED_ARG | QUOTED_ARG) WHITESPACE+)+</pre></blockquote>
+ *
+ * <p>Arguments without escapes are returned as ranges of the input string,
+ * only arguments containing escapes are copied while parsing.</p>
  */
 class QuotedStringTokenizer implements InputTokenizer {
     private static final int CHAR_BACKSLASH = '\\';
@@ -75,8 +80,7 @@ public List<SingleArg> tokenize(String arguments, boolean lenient) throws Argume
                 skipWhiteSpace(state);
             }
             int startIdx = state.getIndex() + 1;
-            String arg = nextArg(state);
-            returnedArgs.add(new SingleArg(arg, startIdx, state.getIndex()));
+            returnedArgs.add(nextArg(state, startIdx));
             if (this.trimTrailingSpace) {
                 skipWhiteSpace(state);
             }
@@ -95,21 +99,20 @@ private void skipWhiteSpace(TokenizerState state) throws ArgumentParseException
         }
     }
 
-    private String nextArg(TokenizerState state) throws ArgumentParseException {
-        StringBuilder argBuilder = new StringBuilder();
+    private SingleArg nextArg(TokenizerState state, int startIdx) throws ArgumentParseException {
         if (state.hasMore()) {
             int codePoint = state.peek();
             if (this.handleQuotedStrings && (codePoint == CHAR_DOUBLE_QUOTE || codePoint == CHAR_SINGLE_QUOTE)) {
                 // quoted string
-                parseQuotedString(state, codePoint, argBuilder);
+                return parseQuotedString(state, codePoint, startIdx);
             } else {
-                parseUnquotedString(state, argBuilder);
+                return parseUnquotedString(state, startIdx);
             }
         }
-        return argBuilder.toString();
+        return new SingleArg("", startIdx, state.getIndex());
     }
 
-    private void parseQuotedString(TokenizerState state, int startQuotation, StringBuilder builder) throws ArgumentParseException {
+    private SingleArg parseQuotedString(TokenizerState state, int startQuotation, int startIdx) throws ArgumentParseException {
         // Consume the start quotation character
         int nextCodePoint = state.next();
         if (nextCodePoint != startQuotation) {
@@ -117,36 +120,71 @@ private void parseQuotedString(TokenizerState state, int startQuotation, StringB
                     nextCodePoint, startQuotation)));
         }
 
+        final int valueStart = state.getIndex() + 1;
+        StringBuilder builder = null;
         while (true) {
             if (!state.hasMore()) {
                 if (state.isLenient() || this.forceLenient) {
-                    return;
+                    return createArg(state, builder, valueStart, state.getIndex() + 1, startIdx);
                 }
                 throw state.createException(Text.of("Unterminated quoted string found"));
             }
             nextCodePoint = state.peek();
             if (nextCodePoint == startQuotation) {
+                final int valueEnd = state.getIndex() + 1;
                 state.next();
-                return;
+                return createArg(state, builder, valueStart, valueEnd, startIdx);
             } else if (nextCodePoint == CHAR_BACKSLASH) {
+                if (builder == null) {
+                    builder = startBuilder(state, valueStart);
+                }
                 parseEscape(state, builder);
             } else {
-                builder.appendCodePoint(state.next());
+                state.next();
+                if (builder != null) {
+                    builder.append(state.getBuffer().charAt(state.getIndex()));
+                }
             }
         }
     }
 
-    private void parseUnquotedString(TokenizerState state, StringBuilder builder) throws ArgumentParseException {
+    private SingleArg parseUnquotedString(TokenizerState state, int startIdx) throws ArgumentParseException {
+        final int valueStart = state.getIndex() + 1;
+        StringBuilder builder = null;
         while (state.hasMore()) {
             int nextCodePoint = state.peek();
             if (Character.isWhitespace(nextCodePoint)) {
-                return;
+                break;
             } else if (nextCodePoint == CHAR_BACKSLASH) {
+                if (builder == null) {
+                    builder = startBuilder(state, valueStart);
+                }
                 parseEscape(state, builder);
             } else {
-                builder.appendCodePoint(state.next());
+                state.next();
+                if (builder != null) {
+                    builder.append(state.getBuffer().charAt(state.getIndex()));
+                }
             }
         }
+        return createArg(state, builder, valueStart, state.getIndex() + 1, startIdx);
+    }
+
+    /**
+     * Starts copying an argument once the first escape is found, with the
+     * part of the argument that was already parsed.
+     */
+    private static StringBuilder startBuilder(TokenizerState state, int valueStart) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(state.getBuffer(), valueStart, state.getIndex() + 1);
+        return builder;
+    }
+
+    private static SingleArg createArg(TokenizerState state, @Nullable StringBuilder builder, int valueStart, int valueEnd, int startIdx) {
+        if (builder != null) {
+            return new SingleArg(builder.toString(), startIdx, state.getIndex());
+        }
+        return new SingleArg(state.getBuffer(), valueStart, valueEnd, startIdx, state.getIndex());
     }
 
     private void parseEscape(TokenizerState state, StringBuilder builder) throws ArgumentParseException {
@@ -24,15 +24,28 @@
  */
 package org.spongepowered.api.command.args.parsing;
 
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
 
+import java.nio.CharBuffer;
+
+import javax.annotation.Nullable;
+
 /**
  * This represents a single argument with its start and end indexes
  * in the associated raw input string.
+ *
+ * <p>An argument can be backed by a range of the input string, in which case
+ * its value is only copied out of the input once it is requested with
+ * {@link #getValue()}.</p>
  */
 public final class SingleArg {
-    private final String value;
+    @Nullable private String value;
+    @Nullable private final String input;
+    private final int valueStart;
+    private final int valueEnd;
     private final int startIdx;
     private final int endIdx;
 
@@ -45,6 +58,29 @@ public final class SingleArg {
      */
     public SingleArg(String value, int startIdx, int endIdx) {
         this.value = value;
+        this.input = null;
+        this.valueStart = 0;
+        this.valueEnd = value.length();
+        this.startIdx = startIdx;
+        this.endIdx = endIdx;
+    }
+
+    /**
+     * Create a new argument whose value is a range of the input string.
+     *
+     * @param input The input string
+     * @param valueStart The index in the input of the first character of the
+     *     value
+     * @param valueEnd The index in the input after the last character of the
+     *     value
+     * @param startIdx The starting index of the argument in the input string
+     * @param endIdx The ending index of the argument in the input string
+     */
+    public SingleArg(String input, int valueStart, int valueEnd, int startIdx, int endIdx) {
+        checkPositionIndexes(valueStart, valueEnd, input.length());
+        this.input = input;
+        this.valueStart = valueStart;
+        this.valueEnd = valueEnd;
         this.startIdx = startIdx;
         this.endIdx = endIdx;
     }
@@ -55,7 +91,34 @@ public SingleArg(String value, int startIdx, int endIdx) {
      * @return The string used
      */
     public String getValue() {
-        return this.value;
+        String value = this.value;
+        if (value == null) {
+            this.value = value = this.input.substring(this.valueStart, this.valueEnd);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the value of this argument without copying it out of the input
+     * string if it hasn't been already.
+     *
+     * @return The value
+     */
+    public CharSequence getValueSequence() {
+        final String value = this.value;
+        if (value != null) {
+            return value;
+        }
+        return CharBuffer.wrap(this.input, this.valueStart, this.valueEnd);
+    }
+
+    /**
+     * Gets the length of the value of this argument.
+     *
+     * @return The length of the value
+     */
+    public int getValueLength() {
+        return this.valueEnd - this.valueStart;
     }
 
     /**
@@ -87,18 +150,18 @@ public boolean equals(Object o) {
         SingleArg singleArg = (SingleArg) o;
         return this.startIdx == singleArg.startIdx
                && this.endIdx == singleArg.endIdx
-               && Objects.equal(this.value, singleArg.value);
+               && Objects.equal(getValue(), singleArg.getValue());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.value, this.startIdx, this.endIdx);
+        return Objects.hashCode(getValue(), this.startIdx, this.endIdx);
     }
 
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
-                .add("value", this.value)
+                .add("value", getValue())
                 .add("startIdx", this.startIdx)
                 .add("endIdx", this.endIdx)
                 .toString();
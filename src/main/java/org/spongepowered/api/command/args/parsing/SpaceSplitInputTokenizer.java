@@ -27,6 +27,7 @@
 import org.spongepowered.api.command.args.ArgumentParseException;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 class SpaceSplitInputTokenizer implements InputTokenizer {
@@ -36,13 +37,17 @@ private SpaceSplitInputTokenizer() {}
 
     @Override
     public List<SingleArg> tokenize(String arguments, boolean lenient) throws ArgumentParseException {
+        if (arguments.isEmpty()) {
+            return Collections.emptyList();
+        }
         List<SingleArg> ret = new ArrayList<>();
         int lastIndex = 0;
         int spaceIndex;
-        while ((spaceIndex = arguments.indexOf(" ")) != -1) {
-            ret.add(new SingleArg((arguments = arguments.substring(0, spaceIndex)), lastIndex, lastIndex + spaceIndex));
-            lastIndex += spaceIndex + 1;
+        while ((spaceIndex = arguments.indexOf(' ', lastIndex)) != -1) {
+            ret.add(new SingleArg(arguments, lastIndex, spaceIndex, lastIndex, spaceIndex));
+            lastIndex = spaceIndex + 1;
         }
+        ret.add(new SingleArg(arguments, lastIndex, arguments.length(), lastIndex, arguments.length()));
         return ret;
     }
 }
@@ -67,4 +67,8 @@ public boolean isLenient() {
     public int getIndex() {
         return this.index;
     }
+
+    public String getBuffer() {
+        return this.buffer;
+    }
 }
@@ -28,11 +28,9 @@
 import static org.spongepowered.api.command.CommandMessageFormatting.SPACE_TEXT;
 import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
 
-import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
 import org.spongepowered.api.command.CommandCallable;
@@ -47,18 +45,22 @@
 import org.spongepowered.api.text.action.TextActions;
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.api.text.format.TextStyles;
+import org.spongepowered.api.util.Functional;
 import org.spongepowered.api.util.StartsWithPredicate;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -66,6 +68,11 @@
 
 /**
  * A simple implementation of a {@link Dispatcher}.
+ *
+ * <p>The registered commands are held in an immutable snapshot, which is
+ * replaced as a whole when commands are registered or removed. Looking up
+ * commands never blocks, and always sees the result of every change that has
+ * completed before it. Changes are serialized with each other.</p>
  */
 public final class SimpleDispatcher implements Dispatcher {
 
@@ -82,7 +89,8 @@ public final class SimpleDispatcher implements Dispatcher {
     };
 
     private final Disambiguator disambiguatorFunc;
-    private final ListMultimap<String, CommandMapping> commands = ArrayListMultimap.create();
+    private final Object lock = new Object();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
 
     /**
      * Creates a basic new dispatcher.
@@ -162,27 +170,34 @@ public Optional<CommandMapping> register(CommandCallable callable, List<String>
      * @return The registered command mapping, unless no aliases could
      *     be registered
      */
-    public synchronized Optional<CommandMapping> register(CommandCallable callable, List<String> aliases,
+    public Optional<CommandMapping> register(CommandCallable callable, List<String> aliases,
             Function<List<String>, List<String>> callback) {
         checkNotNull(aliases, "aliases");
         checkNotNull(callable, "callable");
         checkNotNull(callback, "callback");
 
-        // Invoke the callback with the commands that /can/ be registered
-        // noinspection ConstantConditions
-        aliases = ImmutableList.copyOf(callback.apply(aliases));
-        if (!aliases.isEmpty()) {
-            String primary = aliases.get(0);
-            List<String> secondary = aliases.subList(1, aliases.size());
-            CommandMapping mapping = new ImmutableCommandMapping(callable, primary, secondary);
+        // The callback runs under the lock, so the aliases it sees as
+        // available can't be taken before the new snapshot is published
+        synchronized (this.lock) {
+            // Invoke the callback with the commands that /can/ be registered
+            // noinspection ConstantConditions
+            aliases = ImmutableList.copyOf(callback.apply(aliases));
+            if (!aliases.isEmpty()) {
+                String primary = aliases.get(0);
+                List<String> secondary = aliases.subList(1, aliases.size());
+                CommandMapping mapping = new ImmutableCommandMapping(callable, primary, secondary);
+
+                final ImmutableListMultimap.Builder<String, CommandMapping> commands = ImmutableListMultimap.builder();
+                commands.putAll(this.snapshot.commands);
+                for (String alias : aliases) {
+                    commands.put(alias.toLowerCase(), mapping);
+                }
+                this.snapshot = new Snapshot(commands.build());
 
-            for (String alias : aliases) {
-                this.commands.put(alias.toLowerCase(), mapping);
+                return Optional.of(mapping);
             }
-
-            return Optional.of(mapping);
+            return Optional.empty();
         }
-        return Optional.empty();
     }
 
     /**
@@ -191,8 +206,15 @@ public synchronized Optional<CommandMapping> register(CommandCallable callable,
      * @param alias The alias
      * @return The previous mapping associated with the alias, if one was found
      */
-    public synchronized Collection<CommandMapping> remove(String alias) {
-        return this.commands.removeAll(alias.toLowerCase());
+    public Collection<CommandMapping> remove(String alias) {
+        final String key = alias.toLowerCase();
+        synchronized (this.lock) {
+            final List<CommandMapping> removed = this.snapshot.commands.get(key);
+            if (!removed.isEmpty()) {
+                update((entryAlias, mapping) -> !entryAlias.equals(key));
+            }
+            return removed;
+        }
     }
 
     /**
@@ -201,18 +223,17 @@ public synchronized Collection<CommandMapping> remove(String alias) {
      * @param aliases A collection of aliases
      * @return Whether any were found
      */
-    public synchronized boolean removeAll(Collection<?> aliases) {
+    public boolean removeAll(Collection<?> aliases) {
         checkNotNull(aliases, "aliases");
 
-        boolean found = false;
-
+        final Set<String> keys = new HashSet<>();
         for (Object alias : aliases) {
-            if (!this.commands.removeAll(alias.toString().toLowerCase()).isEmpty()) {
-                found = true;
-            }
+            keys.add(alias.toString().toLowerCase());
         }
 
-        return found;
+        synchronized (this.lock) {
+            return update((alias, mapping) -> !keys.contains(alias));
+        }
     }
 
     /**
@@ -221,21 +242,21 @@ public synchronized boolean removeAll(Collection<?> aliases) {
      * @param mapping The mapping
      * @return The previous mapping associated with the alias, if one was found
      */
-    public synchronized Optional<CommandMapping> removeMapping(CommandMapping mapping) {
+    public Optional<CommandMapping> removeMapping(CommandMapping mapping) {
         checkNotNull(mapping, "mapping");
 
-        CommandMapping found = null;
-
-        Iterator<CommandMapping> it = this.commands.values().iterator();
-        while (it.hasNext()) {
-            CommandMapping current = it.next();
-            if (current.equals(mapping)) {
-                it.remove();
-                found = current;
+        synchronized (this.lock) {
+            CommandMapping found = null;
+            for (CommandMapping current : this.snapshot.commands.values()) {
+                if (current.equals(mapping)) {
+                    found = current;
+                }
+            }
+            if (found != null) {
+                update((alias, current) -> !current.equals(mapping));
             }
+            return Optional.ofNullable(found);
         }
-
-        return Optional.ofNullable(found);
     }
 
     /**
@@ -244,47 +265,51 @@ public synchronized Optional<CommandMapping> removeMapping(CommandMapping mappin
      * @param mappings The collection
      * @return Whether the at least one command was removed
      */
-    public synchronized boolean removeMappings(Collection<?> mappings) {
+    public boolean removeMappings(Collection<?> mappings) {
         checkNotNull(mappings, "mappings");
 
-        boolean found = false;
+        synchronized (this.lock) {
+            return update((alias, mapping) -> !mappings.contains(mapping));
+        }
+    }
 
-        Iterator<CommandMapping> it = this.commands.values().iterator();
-        while (it.hasNext()) {
-            if (mappings.contains(it.next())) {
-                it.remove();
-                found = true;
+    /**
+     * Replaces the snapshot with one only containing the entries accepted by
+     * the filter. Must be called while holding the lock.
+     *
+     * @param filter The filter for the entries to keep
+     * @return Whether any entries were removed
+     */
+    private boolean update(BiPredicate<String, CommandMapping> filter) {
+        final ImmutableListMultimap<String, CommandMapping> old = this.snapshot.commands;
+        final ImmutableListMultimap.Builder<String, CommandMapping> commands = ImmutableListMultimap.builder();
+        boolean removed = false;
+        for (Map.Entry<String, CommandMapping> entry : old.entries()) {
+            if (filter.test(entry.getKey(), entry.getValue())) {
+                commands.put(entry);
+            } else {
+                removed = true;
             }
         }
-
-        return found;
+        if (removed) {
+            this.snapshot = new Snapshot(commands.build());
+        }
+        return removed;
     }
 
     @Override
-    public synchronized Set<CommandMapping> getCommands() {
-        return ImmutableSet.copyOf(this.commands.values());
+    public Set<CommandMapping> getCommands() {
+        return this.snapshot.mappings;
     }
 
     @Override
-    public synchronized Set<String> getPrimaryAliases() {
-        Set<String> aliases = new HashSet<>();
-
-        for (CommandMapping mapping : this.commands.values()) {
-            aliases.add(mapping.getPrimaryAlias());
-        }
-
-        return Collections.unmodifiableSet(aliases);
+    public Set<String> getPrimaryAliases() {
+        return this.snapshot.primaryAliases;
     }
 
     @Override
-    public synchronized Set<String> getAliases() {
-        Set<String> aliases = new HashSet<>();
-
-        for (CommandMapping mapping : this.commands.values()) {
-            aliases.addAll(mapping.getAllAliases());
-        }
-
-        return Collections.unmodifiableSet(aliases);
+    public Set<String> getAliases() {
+        return this.snapshot.aliases;
     }
 
     @Override
@@ -293,8 +318,8 @@ public Optional<CommandMapping> get(String alias) {
     }
 
     @Override
-    public synchronized Optional<CommandMapping> get(String alias, @Nullable CommandSource source) {
-        List<CommandMapping> results = this.commands.get(alias.toLowerCase());
+    public Optional<CommandMapping> get(String alias, @Nullable CommandSource source) {
+        List<CommandMapping> results = this.snapshot.commands.get(alias.toLowerCase());
         if (results.size() == 1) {
             return Optional.of(results.get(0));
         } else if (results.size() == 0) {
@@ -305,21 +330,14 @@ public synchronized Optional<CommandMapping> get(String alias, @Nullable Command
     }
 
     @Override
-    public synchronized boolean containsAlias(String alias) {
-        return this.commands.containsKey(alias.toLowerCase());
+    public boolean containsAlias(String alias) {
+        return this.snapshot.commands.containsKey(alias.toLowerCase());
     }
 
     @Override
     public boolean containsMapping(CommandMapping mapping) {
         checkNotNull(mapping, "mapping");
-
-        for (CommandMapping test : this.commands.values()) {
-            if (mapping.equals(test)) {
-                return true;
-            }
-        }
-
-        return false;
+        return this.snapshot.mappings.contains(mapping);
     }
 
     @Override
@@ -338,6 +356,24 @@ public CommandResult process(CommandSource source, String commandLine) throws Co
         }
     }
 
+    @Override
+    public CompletableFuture<CommandResult> processAsync(CommandSource source, String commandLine) {
+        final String[] argSplit = commandLine.split(" ", 2);
+        Optional<CommandMapping> cmdOptional = get(argSplit[0], source);
+        if (!cmdOptional.isPresent()) {
+            return Functional.failedFuture(new CommandNotFoundException(t("commands.generic.notFound"), argSplit[0]));
+        }
+        final String arguments = argSplit.length > 1 ? argSplit[1] : "";
+        return cmdOptional.get().getCallable().processAsync(source, arguments).exceptionally(e -> {
+            final Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof CommandNotFoundException) {
+                throw new CompletionException(new CommandException(t("No such child command: %s",
+                        ((CommandNotFoundException) cause).getCommand())));
+            }
+            throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(e);
+        });
+    }
+
     @Override
     public List<String> getSuggestions(CommandSource src, final String arguments, @Nullable Location<World> targetPosition) throws CommandException {
         final String[] argSplit = arguments.split(" ", 2);
@@ -350,9 +386,23 @@ public List<String> getSuggestions(CommandSource src, final String arguments, @N
         return cmdOptional.get().getCallable().getSuggestions(src, argSplit[1], targetPosition);
     }
 
+    @Override
+    public CompletableFuture<List<String>> getSuggestionsAsync(CommandSource src, final String arguments,
+            @Nullable Location<World> targetPosition) {
+        final String[] argSplit = arguments.split(" ", 2);
+        if (argSplit.length == 1) {
+            return Functional.failableFuture(() -> getSuggestions(src, arguments, targetPosition));
+        }
+        Optional<CommandMapping> cmdOptional = get(argSplit[0], src);
+        if (!cmdOptional.isPresent()) {
+            return CompletableFuture.completedFuture(ImmutableList.of());
+        }
+        return cmdOptional.get().getCallable().getSuggestionsAsync(src, argSplit[1], targetPosition);
+    }
+
     @Override
     public boolean testPermission(CommandSource source) {
-        for (CommandMapping mapping : this.commands.values()) {
+        for (CommandMapping mapping : this.snapshot.mappings) {
             if (mapping.getCallable().testPermission(source)) {
                 return true;
             }
@@ -367,7 +417,7 @@ public Optional<Text> getShortDescription(CommandSource source) {
 
     @Override
     public Optional<Text> getHelp(CommandSource source) {
-        if (this.commands.isEmpty()) {
+        if (this.snapshot.commands.isEmpty()) {
             return Optional.empty();
         }
         Text.Builder build = t("Available commands:\n").toBuilder();
@@ -391,7 +441,7 @@ public Optional<Text> getHelp(CommandSource source) {
     }
 
     private Set<String> filterCommands(final CommandSource src) {
-        return Multimaps.filterValues(this.commands, input -> input.getCallable().testPermission(src)).keys().elementSet();
+        return Multimaps.filterValues(this.snapshot.commands, input -> input.getCallable().testPermission(src)).keySet();
     }
 
     /**
@@ -399,8 +449,8 @@ private Set<String> filterCommands(final CommandSource src) {
      *
      * @return The number of aliases
      */
-    public synchronized int size() {
-        return this.commands.size();
+    public int size() {
+        return this.snapshot.commands.size();
     }
 
     @Override
@@ -426,12 +476,41 @@ public Text getUsage(final CommandSource source) {
     }
 
     @Override
-    public synchronized Set<CommandMapping> getAll(String alias) {
-        return ImmutableSet.copyOf(this.commands.get(alias));
+    public Set<CommandMapping> getAll(String alias) {
+        return ImmutableSet.copyOf(this.snapshot.commands.get(alias.toLowerCase()));
     }
 
     @Override
     public Multimap<String, CommandMapping> getAll() {
-        return ImmutableMultimap.copyOf(this.commands);
+        return this.snapshot.commands;
+    }
+
+    /**
+     * An immutable view of the registered commands, along with the alias sets
+     * derived from them.
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(ImmutableListMultimap.of());
+
+        // Keyed by lower case alias
+        final ImmutableListMultimap<String, CommandMapping> commands;
+        final ImmutableSet<CommandMapping> mappings;
+        final ImmutableSet<String> primaryAliases;
+        final ImmutableSet<String> aliases;
+
+        Snapshot(ImmutableListMultimap<String, CommandMapping> commands) {
+            this.commands = commands;
+            this.mappings = ImmutableSet.copyOf(commands.values());
+            final ImmutableSet.Builder<String> primaryAliases = ImmutableSet.builder();
+            final ImmutableSet.Builder<String> aliases = ImmutableSet.builder();
+            for (CommandMapping mapping : this.mappings) {
+                primaryAliases.add(mapping.getPrimaryAlias());
+                aliases.addAll(mapping.getAllAliases());
+            }
+            this.primaryAliases = primaryAliases.build();
+            this.aliases = aliases.build();
+        }
+
     }
 }
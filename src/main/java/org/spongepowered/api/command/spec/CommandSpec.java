@@ -32,6 +32,7 @@
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandCallable;
 import org.spongepowered.api.command.CommandException;
 import org.spongepowered.api.command.CommandPermissionException;
@@ -44,7 +45,9 @@
 import org.spongepowered.api.command.args.CommandElement;
 import org.spongepowered.api.command.args.GenericArguments;
 import org.spongepowered.api.command.args.parsing.InputTokenizer;
+import org.spongepowered.api.scheduler.SpongeExecutorService;
 import org.spongepowered.api.text.Text;
+import org.spongepowered.api.util.Functional;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 
@@ -53,29 +56,45 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import javax.annotation.Nullable;
 
 /**
  * Specification for how command arguments should be parsed.
+ *
+ * <p>The usage and help of a specification are cached for every distinct
+ * {@link CommandElement#getUsageKey(CommandSource) usage key} of its
+ * arguments, so sources that are shown the same usage share the same
+ * {@link Text}.</p>
  */
 public final class CommandSpec implements CommandCallable {
 
+    private static final int MAX_CACHED_USAGES = 64;
+
     private final CommandElement args;
     private final CommandExecutor executor;
     private final Optional<Text> description;
     private final Optional<Text> extendedDescription;
     @Nullable private final String permission;
     private final InputTokenizer argumentParser;
+    @Nullable private final Object asyncPlugin;
+    @Nullable private volatile SpongeExecutorService asyncExecutor;
+    @Nullable private volatile SpongeExecutorService syncExecutor;
+    private final Map<Object, Text> usageCache = new ConcurrentHashMap<>();
+    private final Map<Object, Text> helpCache = new ConcurrentHashMap<>();
 
     CommandSpec(CommandElement args, CommandExecutor executor, @Nullable Text description, @Nullable Text extendedDescription,
-            @Nullable String permission, InputTokenizer parser) {
+            @Nullable String permission, InputTokenizer parser, @Nullable Object asyncPlugin) {
         this.args = args;
         this.executor = executor;
         this.permission = permission;
         this.description = Optional.ofNullable(description);
         this.extendedDescription = Optional.ofNullable(extendedDescription);
         this.argumentParser = parser;
+        this.asyncPlugin = asyncPlugin;
     }
 
     /**
@@ -105,6 +124,8 @@ public static final class Builder {
         @Nullable
         private Map<List<String>, CommandCallable> childCommandMap;
         private InputTokenizer argumentParser = InputTokenizer.quotedStrings(false);
+        @Nullable
+        private Object asyncPlugin;
 
         Builder() {}
 
@@ -252,6 +273,29 @@ public Builder inputTokenizer(InputTokenizer parser) {
             return this;
         }
 
+        /**
+         * Makes the command execute off the main thread when it is processed
+         * through {@link CommandCallable#processAsync(CommandSource, String)}.
+         *
+         * <p>Permission checks and argument parsing are still performed on
+         * the calling thread, after which the executor is run by the
+         * asynchronous executor of the provided plugin. The result is handed
+         * back to the main thread through its synchronous executor. See
+         * {@link CommandCallable#processAsync(CommandSource, String)} for
+         * what the executor may do while running asynchronously.</p>
+         *
+         * <p>{@link CommandCallable#process(CommandSource, String)} always
+         * executes the command on the calling thread.</p>
+         *
+         * @param plugin The plugin to schedule the execution for
+         * @return this
+         */
+        public Builder async(Object plugin) {
+            checkNotNull(plugin, "plugin");
+            this.asyncPlugin = plugin;
+            return this;
+        }
+
         /**
          * Create a new {@link CommandSpec} based on the data provided in this
          * builder.
@@ -280,7 +324,7 @@ public CommandSpec build() {
             }
 
             return new CommandSpec(this.args, this.executor, this.description, this.extendedDescription, this.permission,
-                    this.argumentParser);
+                    this.argumentParser, this.asyncPlugin);
         }
     }
 
@@ -360,6 +404,83 @@ public CommandResult process(CommandSource source, String arguments) throws Comm
         return getExecutor().execute(source, context);
     }
 
+    @Override
+    public CompletableFuture<CommandResult> processAsync(CommandSource source, String arguments) {
+        final CommandContext context = new CommandContext();
+        try {
+            checkPermission(source);
+            final CommandArgs args = new CommandArgs(arguments, getInputTokenizer().tokenize(arguments, false));
+            this.populateContext(source, args, context);
+        } catch (CommandException e) {
+            return Functional.failedFuture(e);
+        }
+        return executeAsync(source, context);
+    }
+
+    /**
+     * Execute this command with arguments that have already been parsed,
+     * offloading the execution if this command is {@link #isAsync()
+     * asynchronous}. Child commands selected while parsing are executed
+     * according to their own execution mode.
+     *
+     * @param source The source executing the command
+     * @param context The parsed arguments, which must not be modified
+     *     afterwards
+     * @return The future result of the command, completed on the main thread
+     * @see CommandCallable#processAsync(CommandSource, String)
+     */
+    public CompletableFuture<CommandResult> executeAsync(CommandSource source, CommandContext context) {
+        checkNotNull(source, "source");
+        checkNotNull(context, "context");
+        if (this.executor instanceof ChildCommandElementExecutor) {
+            final ChildCommandElementExecutor children = (ChildCommandElementExecutor) this.executor;
+            if (context.hasAny(children.getUntranslatedKey())) {
+                return children.executeAsync(source, context);
+            }
+        }
+        if (this.asyncPlugin == null) {
+            return Functional.failableFuture(() -> this.executor.execute(source, context));
+        }
+        final SpongeExecutorService sync = getSyncExecutor();
+        final CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        Functional.asyncFailableFuture(() -> this.executor.execute(source, context), getAsyncExecutor())
+                .whenComplete((commandResult, t) -> sync.execute(() -> {
+                    if (t != null) {
+                        result.completeExceptionally(t);
+                    } else {
+                        result.complete(commandResult);
+                    }
+                }));
+        return result;
+    }
+
+    /**
+     * Gets whether this command is executed off the main thread when it is
+     * processed asynchronously.
+     *
+     * @return Whether this command is asynchronous
+     * @see Builder#async(Object)
+     */
+    public boolean isAsync() {
+        return this.asyncPlugin != null;
+    }
+
+    private SpongeExecutorService getAsyncExecutor() {
+        SpongeExecutorService executor = this.asyncExecutor;
+        if (executor == null) {
+            this.asyncExecutor = executor = Sponge.getScheduler().createAsyncExecutor(this.asyncPlugin);
+        }
+        return executor;
+    }
+
+    private SpongeExecutorService getSyncExecutor() {
+        SpongeExecutorService executor = this.syncExecutor;
+        if (executor == null) {
+            this.syncExecutor = executor = Sponge.getScheduler().createSyncExecutor(this.asyncPlugin);
+        }
+        return executor;
+    }
+
     @Override
     public List<String> getSuggestions(CommandSource source, String arguments, @Nullable Location<World> targetPos) throws CommandException {
         CommandArgs args = new CommandArgs(arguments, getInputTokenizer().tokenize(arguments, true));
@@ -405,7 +526,7 @@ public Optional<Text> getExtendedDescription(CommandSource source) {
     @Override
     public Text getUsage(CommandSource source) {
         checkNotNull(source, "source");
-        return this.args.getUsage(source);
+        return getCached(this.usageCache, source, this.args::getUsage);
     }
 
     /**
@@ -419,11 +540,31 @@ public Text getUsage(CommandSource source) {
     @Override
     public Optional<Text> getHelp(CommandSource source) {
         checkNotNull(source, "source");
-        Text.Builder builder = Text.builder();
-        this.getShortDescription(source).ifPresent((a) -> builder.append(a, Text.NEW_LINE));
-        builder.append(getUsage(source));
-        this.getExtendedDescription(source).ifPresent((a) -> builder.append(Text.NEW_LINE, a));
-        return Optional.of(builder.build());
+        return Optional.of(getCached(this.helpCache, source, src -> {
+            Text.Builder builder = Text.builder();
+            this.getShortDescription(src).ifPresent((a) -> builder.append(a, Text.NEW_LINE));
+            builder.append(getUsage(src));
+            this.getExtendedDescription(src).ifPresent((a) -> builder.append(Text.NEW_LINE, a));
+            return builder.build();
+        }));
+    }
+
+    private Text getCached(Map<Object, Text> cache, CommandSource source, Function<CommandSource, Text> function) {
+        final Object key = this.args.getUsageKey(source);
+        if (key == null) {
+            return function.apply(source);
+        }
+        Text text = cache.get(key);
+        if (text == null) {
+            text = function.apply(source);
+            if (cache.size() >= MAX_CACHED_USAGES) {
+                // Keys of outdated child command registrations are never
+                // requested again, so start over instead of growing
+                cache.clear();
+            }
+            cache.put(key, text);
+        }
+        return text;
     }
 
     @Override
@@ -440,12 +581,14 @@ public boolean equals(@Nullable Object o) {
                 && Objects.equal(this.description, that.description)
                 && Objects.equal(this.extendedDescription, that.extendedDescription)
                 && Objects.equal(this.permission, that.permission)
-                && Objects.equal(this.argumentParser, that.argumentParser);
+                && Objects.equal(this.argumentParser, that.argumentParser)
+                && Objects.equal(this.asyncPlugin, that.asyncPlugin);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.args, this.executor, this.description, this.extendedDescription, this.permission, this.argumentParser);
+        return Objects.hashCode(this.args, this.executor, this.description, this.extendedDescription, this.permission, this.argumentParser,
+                this.asyncPlugin);
     }
 
     @Override
@@ -457,6 +600,7 @@ public String toString() {
                 .add("extendedDescription", this.extendedDescription)
                 .add("permission", this.permission)
                 .add("argumentParser", this.argumentParser)
+                .add("asyncPlugin", this.asyncPlugin)
                 .toString();
     }
 }
@@ -25,7 +25,6 @@
 package org.spongepowered.api.data;
 
 import com.google.common.base.Joiner;
-import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
 
 import java.util.List;
@@ -44,6 +43,11 @@ public final class DataQuery {
      */
     private final ImmutableList<String> parts;
 
+    /**
+     * The hash code of this query, queries are frequently used as keys.
+     */
+    private final int hash;
+
     private ImmutableList<DataQuery> queryParts; //lazy loaded
 
     /**
@@ -66,7 +70,7 @@ private DataQuery(char separator, String path) {
      * @param parts The parts
      */
     private DataQuery(String... parts) {
-        this.parts = ImmutableList.copyOf(parts);
+        this(ImmutableList.copyOf(parts));
     }
 
     /**
@@ -75,7 +79,17 @@ private DataQuery(String... parts) {
      * @param parts The parts
      */
     private DataQuery(List<String> parts) {
-        this.parts = ImmutableList.copyOf(parts);
+        this(ImmutableList.copyOf(parts));
+    }
+
+    /**
+     * Constructs a query using the given parts, without copying them.
+     *
+     * @param parts The parts
+     */
+    private DataQuery(ImmutableList<String> parts) {
+        this.parts = parts;
+        this.hash = parts.hashCode();
     }
 
     /**
@@ -147,6 +161,12 @@ public List<String> getParts() {
      * @return The constructed query
      */
     public DataQuery then(DataQuery that) {
+        if (that.parts.isEmpty()) {
+            return this;
+        }
+        if (this.parts.isEmpty()) {
+            return that;
+        }
         ImmutableList.Builder<String> builder =
             new ImmutableList.Builder<>();
 
@@ -201,11 +221,7 @@ public DataQuery pop() {
         if (this.parts.size() <= 1) {
             return of();
         }
-        ImmutableList.Builder<String> builder = ImmutableList.builder();
-        for (int i = 0; i < this.parts.size() - 1; i++) {
-            builder.add(this.parts.get(i));
-        }
-        return new DataQuery(builder.build());
+        return new DataQuery(this.parts.subList(0, this.parts.size() - 1));
     }
 
     /**
@@ -219,11 +235,7 @@ public DataQuery popFirst() {
         if (this.parts.size() <= 1) {
             return of();
         }
-        ImmutableList.Builder<String> builder = ImmutableList.builder();
-        for (int i = 1; i < this.parts.size(); i++) {
-            builder.add(this.parts.get(i));
-        }
-        return new DataQuery(builder.build());
+        return new DataQuery(this.parts.subList(1, this.parts.size()));
     }
 
     /**
@@ -266,7 +278,7 @@ public String toString() {
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.parts);
+        return this.hash;
     }
 
     @Override
@@ -278,6 +290,6 @@ public boolean equals(Object obj) {
             return false;
         }
         final DataQuery other = (DataQuery) obj;
-        return Objects.equal(this.parts, other.parts);
+        return this.hash == other.hash && this.parts.equals(other.parts);
     }
 }
@@ -118,8 +118,9 @@ public Set<DataQuery> getKeys(boolean deep) {
         if (deep) {
             for (Map.Entry<String, Object> entry : this.map.entrySet()) {
                 if (entry.getValue() instanceof DataView) {
+                    final DataQuery key = of(entry.getKey());
                     for (DataQuery query : ((DataView) entry.getValue()).getKeys(true)) {
-                        builder.add(of(entry.getKey()).then(query));
+                        builder.add(key.then(query));
                     }
                 }
             }
@@ -130,12 +131,30 @@ public Set<DataQuery> getKeys(boolean deep) {
     @Override
     public Map<DataQuery, Object> getValues(boolean deep) {
         ImmutableMap.Builder<DataQuery, Object> builder = ImmutableMap.builder();
-        for (DataQuery query : getKeys(deep)) {
-            Object value = get(query).get();
+        // The values of each sub view are only computed once, and are reused
+        // for the deep entries instead of resolving every deep key again.
+        List<Map<DataQuery, Object>> subValues = deep ? new ArrayList<>() : null;
+        List<DataQuery> subKeys = deep ? new ArrayList<>() : null;
+        for (Map.Entry<String, Object> entry : this.map.entrySet()) {
+            final DataQuery query = of(entry.getKey());
+            final Object value = entry.getValue();
             if (value instanceof DataView) {
-                builder.put(query, ((DataView) value).getValues(deep));
+                final Map<DataQuery, Object> values = ((DataView) value).getValues(deep);
+                builder.put(query, values);
+                if (deep) {
+                    subKeys.add(query);
+                    subValues.add(values);
+                }
             } else {
-                builder.put(query, get(query).get());
+                builder.put(query, copyIfArray(value));
+            }
+        }
+        if (deep) {
+            for (int i = 0; i < subKeys.size(); i++) {
+                final DataQuery key = subKeys.get(i);
+                for (Map.Entry<DataQuery, Object> entry : subValues.get(i).entrySet()) {
+                    builder.put(key.then(entry.getKey()), entry.getValue());
+                }
             }
         }
         return builder.build();
@@ -146,12 +165,19 @@ public final boolean contains(DataQuery path) {
         checkNotNull(path, "path");
         List<String> queryParts = path.getParts();
 
-        String key = queryParts.get(0);
-        if (queryParts.size() == 1) {
-            return this.map.containsKey(key);
+        final int last = queryParts.size() - 1;
+        MemoryDataView view = this;
+        for (int i = 0; i < last; i++) {
+            final Object object = view.map.get(queryParts.get(i));
+            if (object instanceof MemoryDataView) {
+                view = (MemoryDataView) object;
+            } else if (object instanceof DataView) {
+                return ((DataView) object).contains(of(queryParts.subList(i + 1, queryParts.size())));
+            } else {
+                return false;
+            }
         }
-        Optional<DataView> subViewOptional = this.getUnsafeView(key);
-        return subViewOptional.isPresent() && subViewOptional.get().contains(path.popFirst());
+        return view.map.containsKey(queryParts.get(last));
     }
 
     @Override
@@ -185,42 +211,58 @@ public Optional<Object> get(DataQuery path) {
             return Optional.<Object>of(this);
         }
 
-        String key = queryParts.get(0);
-        if (sz == 1) {
-            final Object object = this.map.get(key);
-            if (object == null) {
+        // Walk down the sub views by key, instead of creating a sub query
+        // for each level of the path
+        final int last = sz - 1;
+        MemoryDataView view = this;
+        for (int i = 0; i < last; i++) {
+            final Object object = view.map.get(queryParts.get(i));
+            if (object instanceof MemoryDataView) {
+                view = (MemoryDataView) object;
+            } else if (object instanceof DataView) {
+                return ((DataView) object).get(of(queryParts.subList(i + 1, sz)));
+            } else {
                 return Optional.empty();
             }
-            if (this.safety == SafetyMode.ALL_DATA_CLONED) {
-                if (object.getClass().isArray()) {
-                    if (object instanceof byte[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((byte[]) object));
-                    } else if (object instanceof short[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((short[]) object));
-                    } else if (object instanceof int[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((int[]) object));
-                    } else if (object instanceof long[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((long[]) object));
-                    } else if (object instanceof float[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((float[]) object));
-                    } else if (object instanceof double[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((double[]) object));
-                    } else if (object instanceof boolean[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((boolean[]) object));
-                    } else {
-                        return Optional.<Object>of(ArrayUtils.clone((Object[]) object));
-                    }
-                }
-            }
-            return Optional.of(object);
         }
-        Optional<DataView> subViewOptional = this.getUnsafeView(key);
-        if (!subViewOptional.isPresent()) {
+        final Object object = view.map.get(queryParts.get(last));
+        if (object == null) {
             return Optional.empty();
         }
-        DataView subView = subViewOptional.get();
-        return subView.get(path.popFirst());
-
+        return Optional.of(view.copyIfArray(object));
+    }
+
+    /**
+     * Copies the given object if it is an array and this view uses
+     * {@link SafetyMode#ALL_DATA_CLONED}, as values should then be copied
+     * when they are retrieved.
+     *
+     * @param object The stored object
+     * @return The object, or a copy of it
+     */
+    private Object copyIfArray(Object object) {
+        if (this.safety == SafetyMode.ALL_DATA_CLONED) {
+            if (object.getClass().isArray()) {
+                if (object instanceof byte[]) {
+                    return ArrayUtils.clone((byte[]) object);
+                } else if (object instanceof short[]) {
+                    return ArrayUtils.clone((short[]) object);
+                } else if (object instanceof int[]) {
+                    return ArrayUtils.clone((int[]) object);
+                } else if (object instanceof long[]) {
+                    return ArrayUtils.clone((long[]) object);
+                } else if (object instanceof float[]) {
+                    return ArrayUtils.clone((float[]) object);
+                } else if (object instanceof double[]) {
+                    return ArrayUtils.clone((double[]) object);
+                } else if (object instanceof boolean[]) {
+                    return ArrayUtils.clone((boolean[]) object);
+                } else {
+                    return ArrayUtils.clone((Object[]) object);
+                }
+            }
+        }
+        return object;
     }
 
     @Override
@@ -230,30 +272,33 @@ public DataView set(DataQuery path, Object value) {
         checkNotNull(value, "value");
         checkState(this.container != null);
 
-        @Nullable DataManager manager;
+        List<String> parts = path.getParts();
+        final int last = parts.size() - 1;
+        if (last > 0) {
+            MemoryDataView view = this;
+            for (int i = 0; i < last; i++) {
+                final String key = parts.get(i);
+                final Object object = view.map.get(key);
+                final DataView subView = object instanceof DataView ? (DataView) object : view.createView(of(key));
+                if (!(subView instanceof MemoryDataView)) {
+                    subView.set(of(parts.subList(i + 1, parts.size())), value);
+                    return this;
+                }
+                view = (MemoryDataView) subView;
+            }
+            view.set(path.last(), value);
+            return this;
+        }
+        String key = parts.get(0);
 
-        // TODO: this call to getDataManager each set can be cleaned up
+        // Only looked up for the last part of the path, intermediate views
+        // never need to translate the value
+        @Nullable DataManager manager;
         try {
             manager = Sponge.getDataManager();
         } catch (Exception e) {
             manager = null;
         }
-
-        List<String> parts = path.getParts();
-        String key = parts.get(0);
-        if (parts.size() > 1) {
-            DataQuery subQuery = of(key);
-            Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-            DataView subView;
-            if (!subViewOptional.isPresent()) {
-                this.createView(subQuery);
-                subView = (DataView) this.map.get(key);
-            } else {
-                subView = subViewOptional.get();
-            }
-            subView.set(path.popFirst(), value);
-            return this;
-        }
         if (value instanceof DataView) {
             checkArgument(value != this, "Cannot set a DataView to itself.");
             // always have to copy a data view to avoid overwriting existing
@@ -401,9 +446,10 @@ private void setMap(String key, Map<?, ?> value) {
     }
 
     private void copyDataView(DataQuery path, DataView value) {
-        Collection<DataQuery> valueKeys = value.getKeys(true);
-        for (DataQuery oldKey : valueKeys) {
-            set(path.then(oldKey), value.get(oldKey).get());
+        // Sub views are copied recursively when they are set, so only the
+        // shallow values have to be copied here
+        for (DataQuery key : value.getKeys(false)) {
+            value.get(key).ifPresent(object -> set(path.then(key), object));
         }
     }
 
@@ -411,18 +457,20 @@ private void copyDataView(DataQuery path, DataView value) {
     public DataView remove(DataQuery path) {
         checkNotNull(path, "path");
         List<String> parts = path.getParts();
-        if (parts.size() > 1) {
-            String subKey = parts.get(0);
-            DataQuery subQuery = of(subKey);
-            Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-            if (!subViewOptional.isPresent()) {
+        final int last = parts.size() - 1;
+        MemoryDataView view = this;
+        for (int i = 0; i < last; i++) {
+            final Object object = view.map.get(parts.get(i));
+            if (object instanceof MemoryDataView) {
+                view = (MemoryDataView) object;
+            } else {
+                if (object instanceof DataView) {
+                    ((DataView) object).remove(of(parts.subList(i + 1, parts.size())));
+                }
                 return this;
             }
-            DataView subView = subViewOptional.get();
-            subView.remove(path.popFirst());
-        } else {
-            this.map.remove(parts.get(0));
         }
+        view.map.remove(parts.get(last));
         return this;
     }
 
@@ -518,14 +566,6 @@ private Optional<DataView> getUnsafeView(DataQuery path) {
         return get(path).filter(obj -> obj instanceof DataView).map(obj -> (DataView) obj);
     }
 
-    private Optional<DataView> getUnsafeView(String path) {
-        final Object object = this.map.get(path);
-        if (!(object instanceof DataView)) {
-            return Optional.empty();
-        }
-        return Optional.of((DataView) object);
-    }
-
 
     @Override
     public Optional<Boolean> getBoolean(DataQuery path) {
@@ -798,25 +838,15 @@ public <T> Optional<List<T>> getObjectList(DataQuery path, Class<T> objectClass)
 
     @Override
     public DataContainer copy() {
-        final DataContainer container = new MemoryDataContainer(this.safety);
-        getKeys(false).stream()
-            .forEach(query ->
-                get(query).ifPresent(obj ->
-                        container.set(query, obj)
-                )
-        );
-        return container;
+        return copy(this.safety);
     }
 
     @Override
     public DataContainer copy(SafetyMode safety) {
         final DataContainer container = new MemoryDataContainer(safety);
-        getKeys(false).stream()
-            .forEach(query ->
-                get(query).ifPresent(obj ->
-                        container.set(query, obj)
-                )
-        );
+        for (Map.Entry<String, Object> entry : this.map.entrySet()) {
+            container.set(of(entry.getKey()), copyIfArray(entry.getValue()));
+        }
         return container;
     }
 
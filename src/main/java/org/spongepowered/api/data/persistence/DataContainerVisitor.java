@@ -0,0 +1,220 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataVisitor} which builds a {@link DataContainer} from the
+ * visited document.
+ */
+public class DataContainerVisitor implements DataVisitor {
+
+    private final DataView.SafetyMode safety;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    @Nullable private DataContainer container;
+
+    /**
+     * Creates a new {@link DataContainerVisitor} which builds containers with
+     * the default {@link DataView.SafetyMode}.
+     */
+    public DataContainerVisitor() {
+        this(DataView.SafetyMode.ALL_DATA_CLONED);
+    }
+
+    /**
+     * Creates a new {@link DataContainerVisitor} which builds containers with
+     * the given {@link DataView.SafetyMode}.
+     *
+     * @param safety The safety mode of the built containers
+     */
+    public DataContainerVisitor(DataView.SafetyMode safety) {
+        this.safety = checkNotNull(safety, "safety");
+    }
+
+    /**
+     * Gets the container of the last completely visited document.
+     *
+     * @return The container, if a document was visited completely
+     */
+    public Optional<DataContainer> getContainer() {
+        return Optional.ofNullable(this.container);
+    }
+
+    /**
+     * Called when the root view of a document was visited completely.
+     *
+     * @param container The container of the document
+     * @throws IOException If an error occurs
+     */
+    protected void onComplete(DataContainer container) throws IOException {
+    }
+
+    @Override
+    public void beginView() throws IOException {
+        final Frame parent = this.frames.peek();
+        final DataView view;
+        if (parent == null) {
+            view = DataContainer.createNew(this.safety);
+        } else if (parent.list != null) {
+            view = DataContainer.createNew(this.safety);
+            parent.list.add(view);
+        } else {
+            view = checkNotNull(parent.view).createView(parent.takeKey());
+        }
+        this.frames.push(new Frame(view, null));
+    }
+
+    @Override
+    public void key(String key) throws IOException {
+        final Frame frame = this.frames.peek();
+        checkState(frame != null && frame.view != null, "Keys are only allowed inside of a view");
+        checkState(frame.key == null, "A value is expected for the key %s", frame.key);
+        frame.key = DataQuery.of(key);
+    }
+
+    @Override
+    public void endView() throws IOException {
+        final Frame frame = this.frames.poll();
+        checkState(frame != null && frame.view != null, "No view was started");
+        if (this.frames.isEmpty()) {
+            this.container = (DataContainer) frame.view;
+            onComplete(this.container);
+        }
+    }
+
+    @Override
+    public void beginList(int size) throws IOException {
+        checkState(!this.frames.isEmpty(), "A document must start with a view");
+        this.frames.push(new Frame(null, new ArrayList<>(size < 0 ? 10 : size)));
+    }
+
+    @Override
+    public void endList() throws IOException {
+        final Frame frame = this.frames.poll();
+        checkState(frame != null && frame.list != null, "No list was started");
+        add(frame.list);
+    }
+
+    private void add(Object value) {
+        final Frame frame = this.frames.peek();
+        checkState(frame != null, "A document must start with a view");
+        if (frame.list != null) {
+            frame.list.add(value);
+        } else {
+            checkNotNull(frame.view).set(frame.takeKey(), value);
+        }
+    }
+
+    @Override
+    public void value(boolean value) throws IOException {
+        add(value);
+    }
+
+    @Override
+    public void value(byte value) throws IOException {
+        add(value);
+    }
+
+    @Override
+    public void value(short value) throws IOException {
+        add(value);
+    }
+
+    @Override
+    public void value(int value) throws IOException {
+        add(value);
+    }
+
+    @Override
+    public void value(long value) throws IOException {
+        add(value);
+    }
+
+    @Override
+    public void value(float value) throws IOException {
+        add(value);
+    }
+
+    @Override
+    public void value(double value) throws IOException {
+        add(value);
+    }
+
+    @Override
+    public void value(String value) throws IOException {
+        add(checkNotNull(value, "value"));
+    }
+
+    @Override
+    public void value(byte[] value) throws IOException {
+        add(checkNotNull(value, "value").clone());
+    }
+
+    @Override
+    public void value(int[] value) throws IOException {
+        add(checkNotNull(value, "value").clone());
+    }
+
+    @Override
+    public void value(long[] value) throws IOException {
+        add(checkNotNull(value, "value").clone());
+    }
+
+    private static final class Frame {
+
+        @Nullable final DataView view;
+        @Nullable final List<Object> list;
+        @Nullable DataQuery key;
+
+        Frame(@Nullable DataView view, @Nullable List<Object> list) {
+            this.view = view;
+            this.list = list;
+        }
+
+        DataQuery takeKey() {
+            final DataQuery key = this.key;
+            checkState(key != null, "A key is expected before each value of a view");
+            this.key = null;
+            return key;
+        }
+
+    }
+
+}
@@ -62,4 +62,42 @@ public interface DataFormat extends CatalogType {
      */
     void writeTo(OutputStream output, DataView data) throws IOException;
 
+    /**
+     * Reads the contents of the given {@link InputStream} and passes them to
+     * the given {@link DataVisitor}, without building a {@link DataContainer}
+     * for the whole document if the format supports streaming.
+     *
+     * @param input The input stream
+     * @param visitor The visitor to receive the contents of the stream
+     * @throws InvalidDataFormatException If the data in the stream was not a
+     *         supported format
+     * @throws IOException If there was an error reading from the stream, or
+     *         the visitor threw an exception
+     */
+    default void readFrom(InputStream input, DataVisitor visitor) throws InvalidDataFormatException, IOException {
+        DataVisitors.visit(readFrom(input), visitor);
+    }
+
+    /**
+     * Creates a {@link DataVisitor} which writes the visited document to the
+     * given {@link OutputStream} using the format specified by this
+     * {@link DataFormat}. Formats which support streaming write the document
+     * while it is visited, others write it once the root view is complete.
+     *
+     * <p>Combined with {@link #readFrom(InputStream, DataVisitor)} this allows
+     * converting documents between formats, for example
+     * {@code DataFormats.NBT.readFrom(input, DataFormats.JSON.createWriter(output))}.</p>
+     *
+     * @param output The output stream to write the data to
+     * @return The visitor writing to the stream
+     */
+    default DataVisitor createWriter(OutputStream output) {
+        return new DataContainerVisitor() {
+            @Override
+            protected void onComplete(DataContainer container) throws IOException {
+                writeTo(output, container);
+            }
+        };
+    }
+
 }
@@ -0,0 +1,176 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import org.spongepowered.api.data.DataView;
+
+import java.io.IOException;
+
+/**
+ * Receives the contents of a data document as a stream of events, without
+ * requiring the document to be materialized as a {@link DataView}.
+ *
+ * <p>A document always starts with {@link #beginView()} and ends with the
+ * matching {@link #endView()}. Inside of a view, every entry is announced by
+ * {@link #key(String)} which is followed by exactly one value. A value is
+ * either one of the {@code value} calls, a nested view or a list. Lists
+ * contain values without keys, and are closed by {@link #endList()}.</p>
+ *
+ * @see DataFormat#readFrom(java.io.InputStream, DataVisitor)
+ * @see DataFormat#createWriter(java.io.OutputStream)
+ */
+public interface DataVisitor {
+
+    /**
+     * Begins a new view, which is either the root of the document or the
+     * value of the current key or list element.
+     *
+     * @throws IOException If an error occurs
+     */
+    void beginView() throws IOException;
+
+    /**
+     * Sets the key of the next value in the current view.
+     *
+     * @param key The key
+     * @throws IOException If an error occurs
+     */
+    void key(String key) throws IOException;
+
+    /**
+     * Ends the current view.
+     *
+     * @throws IOException If an error occurs
+     */
+    void endView() throws IOException;
+
+    /**
+     * Begins a new list as the value of the current key or list element.
+     *
+     * @param size The number of elements of the list, or {@code -1} if it is
+     *     not known in advance
+     * @throws IOException If an error occurs
+     */
+    void beginList(int size) throws IOException;
+
+    /**
+     * Ends the current list.
+     *
+     * @throws IOException If an error occurs
+     */
+    void endList() throws IOException;
+
+    /**
+     * Visits a boolean value.
+     *
+     * @param value The value
+     * @throws IOException If an error occurs
+     */
+    void value(boolean value) throws IOException;
+
+    /**
+     * Visits a byte value.
+     *
+     * @param value The value
+     * @throws IOException If an error occurs
+     */
+    void value(byte value) throws IOException;
+
+    /**
+     * Visits a short value.
+     *
+     * @param value The value
+     * @throws IOException If an error occurs
+     */
+    void value(short value) throws IOException;
+
+    /**
+     * Visits an int value.
+     *
+     * @param value The value
+     * @throws IOException If an error occurs
+     */
+    void value(int value) throws IOException;
+
+    /**
+     * Visits a long value.
+     *
+     * @param value The value
+     * @throws IOException If an error occurs
+     */
+    void value(long value) throws IOException;
+
+    /**
+     * Visits a float value.
+     *
+     * @param value The value
+     * @throws IOException If an error occurs
+     */
+    void value(float value) throws IOException;
+
+    /**
+     * Visits a double value.
+     *
+     * @param value The value
+     * @throws IOException If an error occurs
+     */
+    void value(double value) throws IOException;
+
+    /**
+     * Visits a string value.
+     *
+     * @param value The value
+     * @throws IOException If an error occurs
+     */
+    void value(String value) throws IOException;
+
+    /**
+     * Visits a byte array value. The array must not be modified or retained
+     * by the visitor.
+     *
+     * @param value The value
+     * @throws IOException If an error occurs
+     */
+    void value(byte[] value) throws IOException;
+
+    /**
+     * Visits an int array value. The array must not be modified or retained
+     * by the visitor.
+     *
+     * @param value The value
+     * @throws IOException If an error occurs
+     */
+    void value(int[] value) throws IOException;
+
+    /**
+     * Visits a long array value. The array must not be modified or retained
+     * by the visitor.
+     *
+     * @param value The value
+     * @throws IOException If an error occurs
+     */
+    void value(long[] value) throws IOException;
+
+}
@@ -0,0 +1,152 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Utilities for working with {@link DataVisitor}s.
+ */
+public final class DataVisitors {
+
+    /**
+     * Visits all contents of the given {@link DataView} with the given
+     * {@link DataVisitor}, in the order they are stored in the view.
+     *
+     * @param view The view to visit
+     * @param visitor The visitor
+     * @throws IOException If the visitor throws an exception
+     * @throws InvalidDataException If the view contains a value which cannot
+     *     be represented by a data visitor
+     */
+    public static void visit(DataView view, DataVisitor visitor) throws IOException {
+        checkNotNull(view, "view");
+        checkNotNull(visitor, "visitor");
+        visitView(view, visitor);
+    }
+
+    private static void visitView(DataView view, DataVisitor visitor) throws IOException {
+        visitor.beginView();
+        for (DataQuery key : view.getKeys(false)) {
+            final Optional<Object> value = view.get(key);
+            if (value.isPresent()) {
+                visitor.key(key.asString('.'));
+                visitValue(value.get(), visitor);
+            }
+        }
+        visitor.endView();
+    }
+
+    private static void visitValue(Object value, DataVisitor visitor) throws IOException {
+        if (value instanceof DataView) {
+            visitView((DataView) value, visitor);
+        } else if (value instanceof Map) {
+            visitor.beginView();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                visitor.key(entry.getKey().toString());
+                visitValue(entry.getValue(), visitor);
+            }
+            visitor.endView();
+        } else if (value instanceof Collection) {
+            final Collection<?> collection = (Collection<?>) value;
+            visitor.beginList(collection.size());
+            for (Object element : collection) {
+                visitValue(element, visitor);
+            }
+            visitor.endList();
+        } else if (value instanceof Boolean) {
+            visitor.value((boolean) value);
+        } else if (value instanceof Byte) {
+            visitor.value((byte) value);
+        } else if (value instanceof Short) {
+            visitor.value((short) value);
+        } else if (value instanceof Integer) {
+            visitor.value((int) value);
+        } else if (value instanceof Long) {
+            visitor.value((long) value);
+        } else if (value instanceof Float) {
+            visitor.value((float) value);
+        } else if (value instanceof Double) {
+            visitor.value((double) value);
+        } else if (value instanceof String || value instanceof Character) {
+            visitor.value(value.toString());
+        } else if (value instanceof byte[]) {
+            visitor.value((byte[]) value);
+        } else if (value instanceof int[]) {
+            visitor.value((int[]) value);
+        } else if (value instanceof long[]) {
+            visitor.value((long[]) value);
+        } else if (value instanceof Object[]) {
+            final Object[] array = (Object[]) value;
+            visitor.beginList(array.length);
+            for (Object element : array) {
+                visitValue(element, visitor);
+            }
+            visitor.endList();
+        } else if (value instanceof short[]) {
+            final short[] array = (short[]) value;
+            visitor.beginList(array.length);
+            for (short element : array) {
+                visitor.value(element);
+            }
+            visitor.endList();
+        } else if (value instanceof float[]) {
+            final float[] array = (float[]) value;
+            visitor.beginList(array.length);
+            for (float element : array) {
+                visitor.value(element);
+            }
+            visitor.endList();
+        } else if (value instanceof double[]) {
+            final double[] array = (double[]) value;
+            visitor.beginList(array.length);
+            for (double element : array) {
+                visitor.value(element);
+            }
+            visitor.endList();
+        } else if (value instanceof boolean[]) {
+            final boolean[] array = (boolean[]) value;
+            visitor.beginList(array.length);
+            for (boolean element : array) {
+                visitor.value(element);
+            }
+            visitor.endList();
+        } else {
+            throw new InvalidDataException("Cannot visit value of type " + value.getClass().getName());
+        }
+    }
+
+    private DataVisitors() {
+    }
+
+}
@@ -0,0 +1,363 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import com.google.common.primitives.Primitives;
+import org.spongepowered.api.data.DataHolder;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.filter.cause.After;
+import org.spongepowered.api.event.filter.cause.All;
+import org.spongepowered.api.event.filter.cause.Before;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.filter.cause.Last;
+import org.spongepowered.api.event.filter.cause.Named;
+import org.spongepowered.api.event.filter.cause.Root;
+import org.spongepowered.api.event.filter.data.Has;
+import org.spongepowered.api.event.filter.data.Supports;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.filter.type.Include;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * An {@link EventListener} which invokes a listener method that uses the
+ * annotations in {@link org.spongepowered.api.event.filter}.
+ *
+ * <p>All annotations are resolved once when the listener is created, into one
+ * {@link ParameterSource} per additional method parameter. Invoking the
+ * listener then only evaluates these sources, without any further reflective
+ * lookups. The sources are folded into the method handle of the listener, so
+ * the arguments are passed on directly instead of being collected into an
+ * array first.</p>
+ */
+final class FilteredEventListener implements EventListener<Event> {
+
+    private static final MethodType HANDLER_TYPE = MethodType.methodType(void.class, Event.class);
+    private static final MethodHandle GET_PARAMETER;
+    private static final MethodHandle IS_NULL;
+    private static final MethodHandle SKIP;
+
+    static {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            GET_PARAMETER = lookup.findVirtual(ParameterSource.class, "get", MethodType.methodType(Object.class, Event.class));
+            IS_NULL = lookup.findStatic(Objects.class, "isNull", MethodType.methodType(boolean.class, Object.class));
+            SKIP = lookup.findStatic(FilteredEventListener.class, "skip", MethodType.methodType(void.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final MethodHandle handle;
+    private final String description;
+    @Nullable private final Class<?>[] eventTypes;
+    private final boolean excludeEventTypes;
+
+    private FilteredEventListener(MethodHandle handle, String description, @Nullable Class<?>[] eventTypes, boolean excludeEventTypes) {
+        this.handle = handle;
+        this.description = description;
+        this.eventTypes = eventTypes;
+        this.excludeEventTypes = excludeEventTypes;
+    }
+
+    /**
+     * Gets whether the given listener method requires filtering, either
+     * because it declares additional parameters or event type filters.
+     *
+     * @param method The listener method
+     * @return True if the method requires filtering
+     */
+    static boolean isFiltered(Method method) {
+        return method.getParameterCount() > 1 || method.isAnnotationPresent(Include.class) || method.isAnnotationPresent(Exclude.class);
+    }
+
+    /**
+     * Creates a new filtered listener for the given listener method.
+     *
+     * @param method The listener method
+     * @param obj The object the method is declared by
+     * @return The new listener
+     * @throws IllegalArgumentException If the filter annotations of the method
+     *         are invalid
+     */
+    static FilteredEventListener create(Method method, Object obj) {
+        Include include = method.getAnnotation(Include.class);
+        Exclude exclude = method.getAnnotation(Exclude.class);
+        if (include != null && exclude != null) {
+            throw new IllegalArgumentException("Listener method " + method + " cannot declare both @Include and @Exclude");
+        }
+        Class<?>[] eventTypes = include != null ? include.value() : exclude != null ? exclude.value() : null;
+
+        Class<?> eventType = method.getParameterTypes()[0];
+        ParameterSource[] parameters = new ParameterSource[method.getParameterCount() - 1];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = createSource(method, eventType, i + 1);
+        }
+
+        final MethodType type = MethodType.genericMethodType(parameters.length + 1).changeParameterType(0, Event.class).changeReturnType(void.class);
+        final MethodHandle handle = SimpleEventManager.unreflect(method).bindTo(obj).asType(type);
+        return new FilteredEventListener(bindParameters(handle, parameters), method.toString(), eventTypes, exclude != null);
+    }
+
+    /**
+     * Binds the parameter sources to the given handle, from the last
+     * parameter to the first. Each step evaluates one source with the event
+     * and either skips the call if the value is null, or passes it on as the
+     * last argument of the next step.
+     *
+     * @param handle The listener handle, taking the event and one object per
+     *        parameter source
+     * @param parameters The parameter sources
+     * @return The handle only taking the event
+     */
+    private static MethodHandle bindParameters(MethodHandle handle, ParameterSource[] parameters) {
+        for (int i = parameters.length - 1; i >= 0; i--) {
+            // Move the argument of this source to the front, where
+            // foldArguments inserts the value of the source
+            final MethodType type = handle.type();
+            final int count = type.parameterCount();
+            final MethodType reorderedType = type.dropParameterTypes(count - 1, count).insertParameterTypes(0, Object.class);
+            final int[] reorder = new int[count];
+            for (int j = 0; j < count - 1; j++) {
+                reorder[j] = j + 1;
+            }
+            final MethodHandle call = MethodHandles.permuteArguments(handle, reorderedType, reorder);
+            final List<Class<?>> remaining = reorderedType.parameterList().subList(1, count);
+
+            final MethodHandle guarded = MethodHandles.guardWithTest(MethodHandles.dropArguments(IS_NULL, 1, remaining),
+                    MethodHandles.dropArguments(SKIP, 0, reorderedType.parameterList()), call);
+            handle = MethodHandles.foldArguments(guarded, GET_PARAMETER.bindTo(parameters[i]));
+        }
+        return handle.asType(HANDLER_TYPE);
+    }
+
+    private static void skip() {
+    }
+
+    @Override
+    public void handle(Event event) throws Exception {
+        if (this.eventTypes != null && isInstance(this.eventTypes, event) == this.excludeEventTypes) {
+            return;
+        }
+        try {
+            this.handle.invokeExact(event);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.description;
+    }
+
+    private static boolean isInstance(Class<?>[] types, Object object) {
+        for (Class<?> type : types) {
+            if (type.isInstance(object)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ParameterSource createSource(Method method, Class<?> eventType, int index) {
+        final Class<?> type = Primitives.wrap(method.getParameterTypes()[index]);
+        ParameterSource source = null;
+        Has has = null;
+        Supports supports = null;
+        for (Annotation annotation : method.getParameterAnnotations()[index]) {
+            final ParameterSource annotationSource;
+            if (annotation instanceof Has) {
+                has = (Has) annotation;
+                continue;
+            } else if (annotation instanceof Supports) {
+                supports = (Supports) annotation;
+                continue;
+            } else if (annotation instanceof Getter) {
+                annotationSource = createGetterSource(method, eventType, type, ((Getter) annotation).value());
+            } else if (annotation instanceof First) {
+                final TypeFilter filter = new TypeFilter(type, ((First) annotation).typeFilter(), ((First) annotation).inverse());
+                annotationSource = event -> filter.test(event.getCause().first(type).orElse(null));
+            } else if (annotation instanceof Last) {
+                final TypeFilter filter = new TypeFilter(type, ((Last) annotation).typeFilter(), ((Last) annotation).inverse());
+                annotationSource = event -> filter.test(event.getCause().last(type).orElse(null));
+            } else if (annotation instanceof Root) {
+                final TypeFilter filter = new TypeFilter(type, ((Root) annotation).typeFilter(), ((Root) annotation).inverse());
+                annotationSource = event -> filter.test(event.getCause().root());
+            } else if (annotation instanceof Named) {
+                final Named named = (Named) annotation;
+                final String name = named.value();
+                final TypeFilter filter = new TypeFilter(type, named.typeFilter(), named.inverse());
+                annotationSource = event -> filter.test(event.getCause().get(name, type).orElse(null));
+            } else if (annotation instanceof Before) {
+                final Before before = (Before) annotation;
+                final Class<?> target = before.value();
+                final TypeFilter filter = new TypeFilter(type, before.typeFilter(), before.inverse());
+                annotationSource = event -> filter.test(event.getCause().before(target).orElse(null));
+            } else if (annotation instanceof After) {
+                final After after = (After) annotation;
+                final Class<?> target = after.value();
+                final TypeFilter filter = new TypeFilter(type, after.typeFilter(), after.inverse());
+                annotationSource = event -> filter.test(event.getCause().after(target).orElse(null));
+            } else if (annotation instanceof All) {
+                annotationSource = createAllSource(method, type, ((All) annotation).ignoreEmpty());
+            } else {
+                continue;
+            }
+            if (source != null) {
+                throw new IllegalArgumentException("Parameter " + index + " of listener method " + method + " declares more than one source");
+            }
+            source = annotationSource;
+        }
+        if (source == null) {
+            throw new IllegalArgumentException("Parameter " + index + " of listener method " + method + " does not declare a source");
+        }
+        if (has != null || supports != null) {
+            if (!DataHolder.class.isAssignableFrom(type)) {
+                throw new IllegalArgumentException("Parameter " + index + " of listener method " + method + " must be a DataHolder to use "
+                        + "@Has or @Supports");
+            }
+            source = createDataSource(source, has, supports);
+        }
+        return source;
+    }
+
+    private static ParameterSource createGetterSource(Method method, Class<?> eventType, Class<?> type, String name) {
+        final Method getter;
+        try {
+            getter = eventType.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Event type " + eventType.getName() + " of listener method " + method
+                    + " has no getter named " + name, e);
+        }
+        final MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflect(getter).asType(MethodType.methodType(Object.class, Event.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Getter " + getter + " is not accessible", e);
+        }
+        final boolean unwrap = getter.getReturnType() == Optional.class && type != Optional.class;
+        return event -> {
+            Object value;
+            try {
+                value = handle.invokeExact(event);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+            if (unwrap) {
+                value = ((Optional<?>) value).orElse(null);
+            }
+            return type.isInstance(value) ? value : null;
+        };
+    }
+
+    private static ParameterSource createAllSource(Method method, Class<?> type, boolean ignoreEmpty) {
+        if (!type.isArray()) {
+            throw new IllegalArgumentException("Parameter annotated with @All of listener method " + method + " must be an array");
+        }
+        final Class<?> componentType = type.getComponentType();
+        return event -> {
+            final List<?> all = event.getCause().allOf(componentType);
+            if (ignoreEmpty && all.isEmpty()) {
+                return null;
+            }
+            return all.toArray((Object[]) Array.newInstance(componentType, all.size()));
+        };
+    }
+
+    private static ParameterSource createDataSource(ParameterSource source, @Nullable Has has, @Nullable Supports supports) {
+        return event -> {
+            final Object value = source.get(event);
+            if (value == null) {
+                return null;
+            }
+            final DataHolder holder = (DataHolder) value;
+            if (has != null && holder.get(has.value()).isPresent() == has.inverse()) {
+                return null;
+            }
+            if (supports != null && holder.supports(supports.value()) == supports.inverse()) {
+                return null;
+            }
+            return value;
+        };
+    }
+
+    /**
+     * Resolves the value of a listener method parameter from an event.
+     */
+    @FunctionalInterface
+    interface ParameterSource {
+
+        /**
+         * Gets the value for the parameter, or {@code null} if the listener
+         * should not be called for the given event.
+         *
+         * @param event The event
+         * @return The parameter value, or null
+         * @throws Exception If an error occurs
+         */
+        @Nullable Object get(Event event) throws Exception;
+
+    }
+
+    private static final class TypeFilter {
+
+        private final Class<?> type;
+        private final Class<?>[] filter;
+        private final boolean inverse;
+
+        TypeFilter(Class<?> type, Class<?>[] filter, boolean inverse) {
+            this.type = type;
+            this.filter = filter;
+            this.inverse = inverse;
+        }
+
+        @Nullable Object test(@Nullable Object object) {
+            if (!this.type.isInstance(object)) {
+                return null;
+            }
+            if (this.filter.length != 0 && isInstance(this.filter, object) == this.inverse) {
+                return null;
+            }
+            return object;
+        }
+
+    }
+
+}
@@ -0,0 +1,317 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.inject.Singleton;
+import org.spongepowered.api.event.filter.IsCancelled;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.api.util.Tristate;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import javax.inject.Inject;
+
+/**
+ * A simple implementation of {@link EventManager}.
+ *
+ * <p>Listeners are baked into a flat, pre-sorted array per concrete event
+ * class the first time an event of that class is posted. Posting an event
+ * therefore only performs a single map lookup and iterates that array, and
+ * does not allocate. Registering or un-registering listeners only discards
+ * the baked arrays of the event classes that are affected by the change.</p>
+ *
+ * <p>Listeners registered with {@link Listener#beforeModifications()} are
+ * called before all other listeners, after which listeners are called in
+ * the sequence given by {@link Order}. Listeners that share both of these
+ * are called in registration order.</p>
+ *
+ * <p>Listener methods registered through
+ * {@link #registerListeners(Object, Object)} may use the filter annotations
+ * in {@link org.spongepowered.api.event.filter}, which are resolved once at
+ * registration. Methods that only accept the event and declare no event type
+ * filter are invoked directly. Listener methods without an
+ * {@link IsCancelled} annotation are not called for cancelled events.</p>
+ */
+@Singleton
+public class SimpleEventManager implements EventManager {
+
+    private static final RegisteredListener[] NO_LISTENERS = new RegisteredListener[0];
+
+    private static final Comparator<RegisteredListener> LISTENER_ORDER = Comparator
+            .comparing((RegisteredListener listener) -> !listener.beforeModifications)
+            .thenComparing(listener -> listener.order);
+
+    private final Object lock = new Object();
+    private final List<RegisteredListener> listeners = new ArrayList<>();
+    private final Map<Class<?>, RegisteredListener[]> bakedListeners = new ConcurrentHashMap<>();
+    private final PluginManager pluginManager;
+
+    /**
+     * Construct a simple {@link EventManager}.
+     *
+     * @param pluginManager The plugin manager to get the
+     *            {@link PluginContainer} for a given plugin
+     */
+    @Inject
+    public SimpleEventManager(PluginManager pluginManager) {
+        checkNotNull(pluginManager, "pluginManager");
+        this.pluginManager = pluginManager;
+    }
+
+    private PluginContainer getPlugin(Object plugin) {
+        checkNotNull(plugin, "plugin");
+        Optional<PluginContainer> containerOptional = this.pluginManager.fromInstance(plugin);
+        if (!containerOptional.isPresent()) {
+            throw new IllegalArgumentException(
+                    "The provided plugin object does not have an associated plugin container "
+                            + "(in other words, is 'plugin' actually your plugin object?)");
+        }
+        return containerOptional.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void registerListeners(Object plugin, Object obj) {
+        checkNotNull(obj, "obj");
+        PluginContainer container = getPlugin(plugin);
+        List<RegisteredListener> found = new ArrayList<>();
+        for (Method method : obj.getClass().getMethods()) {
+            Listener annotation = method.getAnnotation(Listener.class);
+            if (annotation == null) {
+                continue;
+            }
+            Class<?>[] parameters = method.getParameterTypes();
+            if (parameters.length == 0 || !Event.class.isAssignableFrom(parameters[0])) {
+                throw new IllegalArgumentException("Listener method " + method + " must have an Event as its first parameter");
+            }
+            if (Modifier.isStatic(method.getModifiers())) {
+                throw new IllegalArgumentException("Listener method " + method + " must not be static");
+            }
+            IsCancelled isCancelled = method.getAnnotation(IsCancelled.class);
+            Tristate cancelled = isCancelled == null ? Tristate.FALSE : isCancelled.value();
+            found.add(new RegisteredListener(container, obj, (Class<? extends Event>) parameters[0], annotation.order(),
+                    annotation.beforeModifications(), cancelled, FilteredEventListener.isFiltered(method)
+                            ? FilteredEventListener.create(method, obj) : new MethodEventListener(method, obj)));
+        }
+        synchronized (this.lock) {
+            for (RegisteredListener listener : found) {
+                register(listener);
+            }
+        }
+    }
+
+    @Override
+    public <T extends Event> void registerListener(Object plugin, Class<T> eventClass, EventListener<? super T> listener) {
+        registerListener(plugin, eventClass, Order.DEFAULT, false, listener);
+    }
+
+    @Override
+    public <T extends Event> void registerListener(Object plugin, Class<T> eventClass, Order order, EventListener<? super T> listener) {
+        registerListener(plugin, eventClass, order, false, listener);
+    }
+
+    @Override
+    public <T extends Event> void registerListener(Object plugin, Class<T> eventClass, Order order, boolean beforeModifications,
+            EventListener<? super T> listener) {
+        checkNotNull(eventClass, "eventClass");
+        checkNotNull(order, "order");
+        checkNotNull(listener, "listener");
+        PluginContainer container = getPlugin(plugin);
+        synchronized (this.lock) {
+            register(new RegisteredListener(container, listener, eventClass, order, beforeModifications, Tristate.UNDEFINED, listener));
+        }
+    }
+
+    private void register(RegisteredListener listener) {
+        this.listeners.add(listener);
+        invalidate(listener.eventClass);
+    }
+
+    @Override
+    public void unregisterListeners(Object obj) {
+        checkNotNull(obj, "obj");
+        unregister(listener -> listener.owner == obj);
+    }
+
+    @Override
+    public void unregisterPluginListeners(Object plugin) {
+        PluginContainer container = getPlugin(plugin);
+        unregister(listener -> listener.plugin == container);
+    }
+
+    private void unregister(Predicate<RegisteredListener> filter) {
+        synchronized (this.lock) {
+            for (Iterator<RegisteredListener> it = this.listeners.iterator(); it.hasNext(); ) {
+                RegisteredListener listener = it.next();
+                if (filter.test(listener)) {
+                    it.remove();
+                    invalidate(listener.eventClass);
+                }
+            }
+        }
+    }
+
+    private void invalidate(Class<? extends Event> eventClass) {
+        // Only the baked listeners of event classes that could be handled by
+        // the changed listener are affected.
+        this.bakedListeners.keySet().removeIf(eventClass::isAssignableFrom);
+    }
+
+    private RegisteredListener[] getListeners(Class<?> eventClass) {
+        RegisteredListener[] baked = this.bakedListeners.get(eventClass);
+        if (baked == null) {
+            synchronized (this.lock) {
+                baked = this.bakedListeners.get(eventClass);
+                if (baked == null) {
+                    baked = bake(eventClass);
+                    this.bakedListeners.put(eventClass, baked);
+                }
+            }
+        }
+        return baked;
+    }
+
+    private RegisteredListener[] bake(Class<?> eventClass) {
+        List<RegisteredListener> matching = new ArrayList<>();
+        for (RegisteredListener listener : this.listeners) {
+            if (listener.eventClass.isAssignableFrom(eventClass)) {
+                matching.add(listener);
+            }
+        }
+        if (matching.isEmpty()) {
+            return NO_LISTENERS;
+        }
+        // List.sort is stable, so registration order is kept within the same order
+        matching.sort(LISTENER_ORDER);
+        return matching.toArray(new RegisteredListener[matching.size()]);
+    }
+
+    @Override
+    public boolean post(Event event) {
+        checkNotNull(event, "event");
+        final RegisteredListener[] listeners = getListeners(event.getClass());
+        final boolean cancellable = event instanceof Cancellable;
+        for (RegisteredListener listener : listeners) {
+            if (cancellable && listener.cancelled != Tristate.UNDEFINED
+                    && ((Cancellable) event).isCancelled() != listener.cancelled.asBoolean()) {
+                continue;
+            }
+            try {
+                listener.handler.handle(event);
+            } catch (Throwable t) {
+                listener.plugin.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), listener.plugin.getId(), t);
+            }
+        }
+        return cancellable && ((Cancellable) event).isCancelled();
+    }
+
+    /**
+     * Gets a method handle for the given listener method. Listener methods
+     * are public, but they may be declared by a class that isn't, such as a
+     * package-private or nested listener class of a plugin.
+     *
+     * @param method The listener method
+     * @return The method handle
+     * @throws IllegalArgumentException If the method cannot be accessed
+     */
+    static MethodHandle unreflect(Method method) {
+        try {
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException | SecurityException e) {
+            throw new IllegalArgumentException("Listener method " + method + " is not accessible", e);
+        }
+    }
+
+    private static final class RegisteredListener {
+
+        final PluginContainer plugin;
+        final Object owner;
+        final Class<? extends Event> eventClass;
+        final Order order;
+        final boolean beforeModifications;
+        final Tristate cancelled;
+        final EventListener<Event> handler;
+
+        @SuppressWarnings("unchecked")
+        RegisteredListener(PluginContainer plugin, Object owner, Class<? extends Event> eventClass, Order order,
+                boolean beforeModifications, Tristate cancelled, EventListener<?> handler) {
+            this.plugin = plugin;
+            this.owner = owner;
+            this.eventClass = eventClass;
+            this.order = order;
+            this.beforeModifications = beforeModifications;
+            this.cancelled = cancelled;
+            this.handler = (EventListener<Event>) handler;
+        }
+
+    }
+
+    private static final class MethodEventListener implements EventListener<Event> {
+
+        private static final MethodType HANDLER_TYPE = MethodType.methodType(void.class, Event.class);
+
+        private final MethodHandle handle;
+        private final String description;
+
+        MethodEventListener(Method method, Object obj) {
+            this.handle = unreflect(method).bindTo(obj).asType(HANDLER_TYPE);
+            this.description = method.toString();
+        }
+
+        @Override
+        public void handle(Event event) throws Exception {
+            try {
+                this.handle.invokeExact(event);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.description;
+        }
+
+    }
+
+}
@@ -138,6 +138,7 @@ public static Cause of(Iterable<NamedCause> iterable) {
 
     final Object[] cause;
     final String[] names;
+    private final CauseIndex index;
 
     // lazy load
     @Nullable private Map<String, Object> namedObjectMap;
@@ -155,6 +156,13 @@ public static Cause of(Iterable<NamedCause> iterable) {
         }
         this.cause = objects;
         this.names = names;
+        this.index = CauseIndex.of(objects);
+    }
+
+    private Cause(Object[] cause, String[] names, CauseIndex index) {
+        this.cause = cause;
+        this.names = names;
+        this.index = index;
     }
 
     /**
@@ -177,12 +185,11 @@ public Object root() {
      * @return The first element of the type, if available
      */
     public <T> Optional<T> first(Class<T> target) {
-        for (Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                return Optional.of((T) aCause);
-            }
+        final int[] positions = this.index.positionsOf(target);
+        if (positions.length == 0) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of((T) this.cause[positions[0]]);
     }
 
     /**
@@ -194,12 +201,11 @@ public <T> Optional<T> first(Class<T> target) {
      * @return The last element of the type, if available
      */
     public <T> Optional<T> last(Class<T> target) {
-        for (int i = this.cause.length - 1; i >= 0; i--) {
-            if (target.isInstance(this.cause[i])) {
-                return Optional.of((T) this.cause[i]);
-            }
+        final int[] positions = this.index.positionsOf(target);
+        if (positions.length == 0) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of((T) this.cause[positions[positions.length - 1]]);
     }
 
     /**
@@ -238,8 +244,8 @@ public Optional<?> before(Class<?> clazz) {
         if (this.cause.length == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.cause.length; i++) {
-            if (clazz.isInstance(this.cause[i]) && i > 0) {
+        for (int i : this.index.positionsOf(clazz)) {
+            if (i > 0) {
                 return Optional.of(this.cause[i - 1]);
             }
         }
@@ -283,12 +289,11 @@ public Optional<?> after(Class<?> clazz) {
         if (this.cause.length == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.cause.length; i++) {
-            if (clazz.isInstance(this.cause[i]) && i + 1 < this.cause.length) {
-                return Optional.of(this.cause[i + 1]);
-            }
+        final int[] positions = this.index.positionsOf(clazz);
+        if (positions.length == 0 || positions[0] + 1 >= this.cause.length) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of(this.cause[positions[0] + 1]);
     }
 
     /**
@@ -322,13 +327,7 @@ public Optional<?> after(String named) {
      */
     public boolean containsType(Class<?> target) {
         checkArgument(target != null, "The provided class cannot be null!");
-        for (Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                return true;
-            }
-        }
-
-        return false;
+        return this.index.positionsOf(target).length != 0;
     }
 
     /**
@@ -373,13 +372,15 @@ public boolean containsNamed(String named) {
      * @return An immutable list of the objects queried
      */
     public <T> List<T> allOf(Class<T> target) {
-        ImmutableList.Builder<T> builder = ImmutableList.builder();
-        for (Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                builder.add((T) aCause);
-            }
+        final int[] positions = this.index.positionsOf(target);
+        if (positions.length == 0) {
+            return ImmutableList.of();
         }
-        return builder.build();
+        final Object[] objects = new Object[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            objects[i] = this.cause[positions[i]];
+        }
+        return (List<T>) ImmutableList.copyOf(objects);
     }
 
     /**
@@ -438,12 +439,22 @@ public Cause with(NamedCause additional, NamedCause... additionals) {
      * @return The new cause
      */
     public Cause with(Iterable<NamedCause> iterable) {
-        Cause.Builder builder = new Builder().from(this);
+        checkNotNull(iterable, "Iterable cannot be null!");
+        Object[] objects = this.cause;
+        String[] names = this.names;
+        int size = this.cause.length;
         for (NamedCause o : iterable) {
             checkArgument(o != null, "Cannot add null causes");
-            builder.named(o);
+            checkArgument(indexOfName(names, size, o.getName()) == -1, "Already contains an entry for: %s", o.getName());
+            if (size == objects.length) {
+                objects = Arrays.copyOf(objects, size + 4);
+                names = Arrays.copyOf(names, size + 4);
+            }
+            objects[size] = o.getCauseObject();
+            names[size++] = o.getName();
         }
-        return builder.build();
+        final CauseIndex index = this.index.with(objects, this.cause.length, size);
+        return new Cause(Arrays.copyOf(objects, size), Arrays.copyOf(names, size), index);
     }
 
     /**
@@ -455,11 +466,32 @@ public Cause with(Iterable<NamedCause> iterable) {
      * @return The new merged cause
      */
     public Cause merge(Cause cause) {
-        Cause.Builder builder = builder().from(this);
+        checkNotNull(cause, "Cause cannot be null!");
+        final int size = this.cause.length;
+        final Object[] objects = Arrays.copyOf(this.cause, size + cause.cause.length);
+        final String[] names = Arrays.copyOf(this.names, objects.length);
         for (int i = 0; i < cause.cause.length; i++) {
-            builder.suggestNamed(cause.names[i], cause.cause[i]);
+            String name = cause.names[i];
+            if (indexOfName(names, size + i, name) != -1) {
+                int iteration = 1;
+                while (indexOfName(names, size + i, cause.names[i] + iteration) != -1) {
+                    iteration++;
+                }
+                name = cause.names[i] + iteration;
+            }
+            objects[size + i] = cause.cause[i];
+            names[size + i] = name;
         }
-        return builder.build();
+        return new Cause(objects, names, this.index.with(cause.cause, 0, cause.cause.length));
+    }
+
+    private static int indexOfName(String[] names, int length, String name) {
+        for (int i = 0; i < length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
@@ -0,0 +1,189 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.cause;
+
+import com.google.common.collect.MapMaker;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * A type index over the objects of a {@link Cause}.
+ *
+ * <p>Whether an object is an instance of a class only depends on the class
+ * of that object, so all causes whose objects have the same sequence of
+ * classes share one index. The indices form a tree where each index extends
+ * its parent by the class of one more object, which lets causes that are
+ * derived from another cause look up their index from the index of that
+ * cause. The positions matching a queried type are computed once per index,
+ * from the positions of the parent, and reused by all of these causes.</p>
+ *
+ * <p>Classes are only referenced weakly, so the indices never keep classes
+ * of unloaded plugins alive. A cause strongly references its objects, and
+ * with them the classes of all indices it can reach.</p>
+ *
+ * <p>The shared tree is bounded: at most {@link #MAX_SHARED_INDICES} indices
+ * are ever shared, none deeper than {@link #MAX_SHARED_DEPTH} objects. Any
+ * other index is private to the causes derived from it and is collected
+ * along with them.</p>
+ */
+final class CauseIndex {
+
+    private static final int[] NO_INDICES = new int[0];
+
+    /**
+     * The maximum number of indices ever added to the shared tree.
+     */
+    static final int MAX_SHARED_INDICES = 4096;
+
+    /**
+     * The maximum number of objects of a shared index.
+     */
+    static final int MAX_SHARED_DEPTH = 16;
+
+    private static final AtomicInteger sharedIndices = new AtomicInteger();
+
+    private static final CauseIndex ROOT = new CauseIndex(null, null, 0, true);
+
+    /**
+     * Gets the index for the given cause objects.
+     *
+     * @param objects The cause objects
+     * @return The index
+     */
+    static CauseIndex of(Object[] objects) {
+        return ROOT.with(objects, 0, objects.length);
+    }
+
+    @Nullable private final CauseIndex parent;
+    @Nullable private final WeakReference<Class<?>> type;
+    private final int size;
+    private final boolean shared;
+    // Created on first use, most indices are never queried or extended
+    @Nullable private volatile ConcurrentMap<Class<?>, CauseIndex> children;
+    @Nullable private volatile ConcurrentMap<Class<?>, int[]> positions;
+
+    private CauseIndex(@Nullable CauseIndex parent, @Nullable Class<?> type, int size, boolean shared) {
+        this.parent = parent;
+        this.type = type == null ? null : new WeakReference<>(type);
+        this.size = size;
+        this.shared = shared;
+    }
+
+    private static <V> ConcurrentMap<Class<?>, V> newMap() {
+        return new MapMaker().weakKeys().concurrencyLevel(1).makeMap();
+    }
+
+    /**
+     * Gets the index for the objects of this index, followed by the given
+     * range of objects.
+     *
+     * @param objects The additional objects
+     * @param from The first position of the range, inclusive
+     * @param to The last position of the range, exclusive
+     * @return The index
+     */
+    CauseIndex with(Object[] objects, int from, int to) {
+        CauseIndex index = this;
+        for (int i = from; i < to; i++) {
+            index = index.child(objects[i].getClass());
+        }
+        return index;
+    }
+
+    private CauseIndex child(Class<?> type) {
+        if (!this.shared || this.size >= MAX_SHARED_DEPTH) {
+            return new CauseIndex(this, type, this.size + 1, false);
+        }
+        ConcurrentMap<Class<?>, CauseIndex> children = this.children;
+        if (children == null) {
+            synchronized (this) {
+                children = this.children;
+                if (children == null) {
+                    this.children = children = newMap();
+                }
+            }
+        }
+        CauseIndex child = children.get(type);
+        if (child == null) {
+            if (sharedIndices.get() >= MAX_SHARED_INDICES) {
+                return new CauseIndex(this, type, this.size + 1, false);
+            }
+            child = new CauseIndex(this, type, this.size + 1, true);
+            final CauseIndex previous = children.putIfAbsent(type, child);
+            if (previous == null) {
+                sharedIndices.incrementAndGet();
+            } else {
+                child = previous;
+            }
+        }
+        return child;
+    }
+
+    /**
+     * Gets the ascending positions of all objects that are an instance of the
+     * given class. The returned array must not be modified.
+     *
+     * @param target The class of the target type
+     * @return The positions of the matching objects
+     */
+    int[] positionsOf(Class<?> target) {
+        ConcurrentMap<Class<?>, int[]> positions = this.positions;
+        if (positions == null) {
+            synchronized (this) {
+                positions = this.positions;
+                if (positions == null) {
+                    this.positions = positions = newMap();
+                }
+            }
+        }
+        int[] result = positions.get(target);
+        if (result == null) {
+            result = computePositions(target);
+            positions.putIfAbsent(target, result);
+        }
+        return result;
+    }
+
+    private int[] computePositions(Class<?> target) {
+        if (this.parent == null) {
+            return NO_INDICES;
+        }
+        final int[] parentPositions = this.parent.positionsOf(target);
+        // The class is still reachable from the cause this is queried for
+        final Class<?> type = this.type.get();
+        if (type == null || !target.isAssignableFrom(type)) {
+            return parentPositions;
+        }
+        final int[] result = Arrays.copyOf(parentPositions, parentPositions.length + 1);
+        result[parentPositions.length] = this.size - 1;
+        return result;
+    }
+
+}
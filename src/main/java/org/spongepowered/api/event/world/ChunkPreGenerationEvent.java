@@ -25,9 +25,12 @@
 package org.spongepowered.api.event.world;
 
 import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.util.DurationHistogram;
 import org.spongepowered.api.world.ChunkPreGenerate;
+import org.spongepowered.api.world.gen.GenerationStage;
 
 import java.time.Duration;
+import java.util.Map;
 
 /**
  * Base event for when a {@link ChunkPreGenerate} task
@@ -101,6 +104,24 @@ interface Post extends ChunkPreGenerationEvent, Cancellable {
          */
         Duration getTimeTakenForStep();
 
+        /**
+         * The time each chunk generated during the previous step has taken
+         * in each of the {@link GenerationStage}s. Stages that were run
+         * ahead by worker threads are included in the step in which their
+         * chunk was completed.
+         *
+         * @return The timings of each generation stage
+         */
+        Map<GenerationStage, DurationHistogram> getStageTimingsForStep();
+
+        /**
+         * The time it has taken to save each chunk generated during the
+         * previous step.
+         *
+         * @return The timings of saving the chunks
+         */
+        DurationHistogram getSaveTimingsForStep();
+
     }
 
     /**
@@ -39,6 +39,9 @@
 import org.spongepowered.api.world.extent.ImmutableBiomeVolume;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.gen.GenerationPopulator;
+import org.spongepowered.api.world.gen.SurfaceCache;
+
+import javax.annotation.Nullable;
 
 /**
  * Places tall grass with groups of flowers.
@@ -65,9 +68,8 @@ public class SkylandsGrassPopulator implements GenerationPopulator {
         null,
         null
     };
-    private final Voronoi flowerCells = new Voronoi();
-    private final Voronoi flowerDensities = new Voronoi();
-    private final RarityCurve flowerOdds = new RarityCurve();
+    // the flower cells are seeded on every call, so each thread gets its own
+    private final ThreadLocal<FlowerCells[]> flowerLayers = ThreadLocal.withInitial(() -> new FlowerCells[] {new FlowerCells(), new FlowerCells()});
     private final Cause populatorCause = Cause.source(this).build();
 
     static {
@@ -77,23 +79,14 @@ public class SkylandsGrassPopulator implements GenerationPopulator {
         TALL_GRASS = defaultGrass.with(Keys.SHRUB_TYPE, ShrubTypes.TALL_GRASS).get();
     }
 
-    /**
-     * Constructs a new grass populator for the Skylands.
-     */
-    public SkylandsGrassPopulator() {
-        this.flowerCells.setFrequency(0.1);
-        this.flowerCells.setDisplacement(FLOWERS.length - 1);
-        this.flowerCells.setEnableDistance(false);
-        this.flowerDensities.setFrequency(0.1);
-        this.flowerDensities.setDisplacement(0);
-        this.flowerDensities.setEnableDistance(true);
-        this.flowerOdds.setSourceModule(0, this.flowerDensities);
-        this.flowerOdds.setDegree(5);
+    @Override
+    public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeVolume biomes) {
+        populate(world, buffer, biomes, new SurfaceCache(buffer));
     }
 
     @Override
     @SuppressWarnings("ConstantConditions")
-    public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeVolume biomes) {
+    public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeVolume biomes, SurfaceCache surfaces) {
         final Vector3i max = buffer.getBlockMax();
         final Vector3i min = buffer.getBlockMin();
         final int yMax = max.getY() - 2;
@@ -103,7 +96,10 @@ public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeVolum
         }
         final long seed = world.getProperties().getSeed();
         final int intSeed = (int) (seed >> 32 ^ seed);
-        final int intSeed2 = intSeed * 28703;
+        // two layers of flower cells with different seeds, giving us some overlap
+        final FlowerCells[] layers = this.flowerLayers.get();
+        final FlowerCells flowerCells = layers[0].withSeed(intSeed);
+        final FlowerCells flowerCells2 = layers[1].withSeed(intSeed * 28703);
         final int yStart = Math.min(yMax, SkylandsTerrainGenerator.MAX_HEIGHT);
         final int yEnd = Math.max(yMin, SkylandsTerrainGenerator.MIN_HEIGHT);
         final int xMin = min.getX();
@@ -113,7 +109,7 @@ public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeVolum
         for (int zz = zMin; zz <= zMax; zz++) {
             for (int xx = xMin; xx <= xMax; xx++) {
                 // get the y value of the topmost block
-                int yy = SkylandsUtil.getNextSolid(buffer, xx, yStart, zz, yEnd);
+                int yy = SkylandsUtil.getNextSolid(surfaces, xx, yStart, zz, yEnd);
                 if (yy < yEnd) {
                     continue;
                 }
@@ -122,25 +118,21 @@ public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeVolum
                     // some random value to compare to odds
                     final float value = SkylandsUtil.hashToFloat(xx, zz, seed);
                     // get the flower for the current cell, may be null
-                    this.flowerCells.setSeed(intSeed);
-                    this.flowerDensities.setSeed(intSeed);
-                    Flower flower = FLOWERS[(int) this.flowerCells.getValue(xx, 0, zz)];
+                    Flower flower = flowerCells.getFlower(xx, zz);
                     // check if we have a flower based on odds for the cell
-                    if (flower == null || value < this.flowerOdds.getValue(xx, 0, zz)) {
-                        // try with a different seed to create a second layer of flower cells, giving us some overlap
-                        this.flowerCells.setSeed(intSeed2);
-                        this.flowerDensities.setSeed(intSeed2);
-                        flower = FLOWERS[(int) this.flowerCells.getValue(xx, 0, zz)];
+                    if (flower == null || value < flowerCells.getOdds(xx, zz)) {
+                        // try with the second layer of flower cells
+                        flower = flowerCells2.getFlower(xx, zz);
                         // try the check again if we have a flower
-                        if (flower != null && value < this.flowerOdds.getValue(xx, 0, zz)) {
+                        if (flower != null && value < flowerCells2.getOdds(xx, zz)) {
                             // check failed, no flowers
                             flower = null;
                         }
                     }
                     if (flower != null) {
-                        buffer.setBlock(xx, yy + 1, zz, flower.getBlock(), this.populatorCause);
+                        surfaces.setBlock(xx, yy + 1, zz, flower.getBlock(), this.populatorCause);
                         if (flower.isDoubleHeight()) {
-                            buffer.setBlock(xx, yy + 2, zz, flower.getUpperBlock(), this.populatorCause);
+                            surfaces.setBlock(xx, yy + 2, zz, flower.getUpperBlock(), this.populatorCause);
                         }
                     } else if (value >= GRASS_ODDS) {
                         // if no flower, check if the value is greater than the grass odds
@@ -149,9 +141,9 @@ public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeVolum
                             //buffer.setBlockType(xx, yy + 1, zz, BlockTypes.MELON_BLOCK);
                             //buffer.setBlockType(xx, yy + 2, zz, BlockTypes.MELON_BLOCK);
                             // TODO: fix double plants
-                            buffer.setBlock(xx, yy + 1, zz, TALL_GRASS, this.populatorCause);
+                            surfaces.setBlock(xx, yy + 1, zz, TALL_GRASS, this.populatorCause);
                         } else {
-                            buffer.setBlock(xx, yy + 1, zz, TALL_GRASS, this.populatorCause);
+                            surfaces.setBlock(xx, yy + 1, zz, TALL_GRASS, this.populatorCause);
                         }
                     }
                 }
@@ -165,7 +157,7 @@ public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeVolum
                         // generate a new random value for the layer
                         final float value = SkylandsUtil.hashToFloat(xx, layerNumber, zz, seed);
                         if (value >= COVERED_GRASS_ODDS) {
-                            buffer.setBlock(xx, yy + 1, zz, TALL_GRASS, this.populatorCause);
+                            surfaces.setBlock(xx, yy + 1, zz, TALL_GRASS, this.populatorCause);
                         }
                     }
                     layerNumber++;
@@ -211,6 +203,43 @@ BlockState getUpperBlock() {
         }
     }
 
+    /**
+     * A layer of flower cells. Instances are confined to a single thread, as
+     * the seed of the cells is changed for every buffer that is populated.
+     */
+    private static class FlowerCells {
+
+        private final Voronoi cells = new Voronoi();
+        private final Voronoi densities = new Voronoi();
+        private final RarityCurve odds = new RarityCurve();
+
+        FlowerCells() {
+            this.cells.setFrequency(0.1);
+            this.cells.setDisplacement(FLOWERS.length - 1);
+            this.cells.setEnableDistance(false);
+            this.densities.setFrequency(0.1);
+            this.densities.setDisplacement(0);
+            this.densities.setEnableDistance(true);
+            this.odds.setSourceModule(0, this.densities);
+            this.odds.setDegree(5);
+        }
+
+        FlowerCells withSeed(int seed) {
+            this.cells.setSeed(seed);
+            this.densities.setSeed(seed);
+            return this;
+        }
+
+        @Nullable
+        Flower getFlower(int x, int z) {
+            return FLOWERS[(int) this.cells.getValue(x, 0, z)];
+        }
+
+        double getOdds(int x, int z) {
+            return this.odds.getValue(x, 0, z);
+        }
+    }
+
     private static class RarityCurve extends Module {
 
         private double degree;
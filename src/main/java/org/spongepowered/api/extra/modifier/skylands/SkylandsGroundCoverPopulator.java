@@ -34,6 +34,7 @@
 import org.spongepowered.api.world.extent.ImmutableBiomeVolume;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.gen.GenerationPopulator;
+import org.spongepowered.api.world.gen.SurfaceCache;
 
 /**
  * Places grass and dirt on the blocks just bellow air.
@@ -51,6 +52,11 @@ public class SkylandsGroundCoverPopulator implements GenerationPopulator {
 
     @Override
     public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeVolume biomes) {
+        populate(world, buffer, biomes, new SurfaceCache(buffer));
+    }
+
+    @Override
+    public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeVolume biomes, SurfaceCache surfaces) {
         final Vector3i max = buffer.getBlockMax();
         final Vector3i min = buffer.getBlockMin();
         final int yMax = max.getY();
@@ -68,14 +74,10 @@ public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeVolum
         final int zMax = max.getZ();
         for (int zz = zMin; zz <= zMax; zz++) {
             for (int xx = xMin; xx <= xMax; xx++) {
-                int yy = yStart;
+                int yy = SkylandsUtil.getNextSolid(surfaces, xx, yStart, zz, yEnd);
                 int layerNumber = 0;
                 yIteration:
                 while (yy >= yEnd) {
-                    yy = SkylandsUtil.getNextSolid(buffer, xx, yy, zz, yEnd);
-                    if (yy < yEnd) {
-                        break;
-                    }
                     if (Noise.gradientCoherentNoise3D(xx * 0.01, 0, zz * 0.01, intSeed ^ layerNumber, NoiseQuality.FAST) < HOLE_THRESHOLD) {
                         layerIteration:
                         for (GroundCoverLayer layer : LAYERS) {
@@ -86,7 +88,7 @@ public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeVolum
                                     break yIteration;
                                 }
                                 if (!buffer.getBlockType(xx, yy, zz).equals(BlockTypes.AIR)) {
-                                    buffer.setBlockType(xx, yy, zz, cover, this.populatorCause);
+                                    surfaces.setBlockType(xx, yy, zz, cover, this.populatorCause);
                                 } else {
                                     break layerIteration;
                                 }
@@ -95,6 +97,7 @@ public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeVolum
                     }
                     layerNumber++;
                     yy = SkylandsUtil.getNextAir(buffer, xx, yy, zz, yEnd);
+                    yy = SkylandsUtil.getNextSolid(buffer, xx, yy, zz, yEnd);
                 }
             }
         }
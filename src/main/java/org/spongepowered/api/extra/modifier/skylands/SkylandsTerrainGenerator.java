@@ -59,9 +59,13 @@ public class SkylandsTerrainGenerator implements GenerationPopulator {
     public static final int MIN_HEIGHT = MID_POINT - LOWER_SIZE + 1;
     private static final Vector3i NOISE_SAMPLING_RATE = new Vector3i(4, 8, 4);
     private static final double THRESHOLD = 0.215;
-    private final Perlin inputNoise = new Perlin();
-    private final VerticalScaling outputNoise = new VerticalScaling();
+    // the noise modules are seeded on every call, so each thread gets its own
+    private final ThreadLocal<TerrainNoise> terrainNoise = ThreadLocal.withInitial(TerrainNoise::new);
+    private static final byte AIR = 0;
+    private static final byte STONE = 1;
     private final OreNoise[] oreNoises;
+    // indexed by the block values used during generation: air, stone, then the ores
+    private final BlockType[] blockPalette;
     private final Cause generatorCause = Cause.source(this).build();
 
     /**
@@ -69,33 +73,6 @@ public class SkylandsTerrainGenerator implements GenerationPopulator {
      */
     @SuppressWarnings("ConstantConditions")
     public SkylandsTerrainGenerator() {
-        this.inputNoise.setFrequency(0.04);
-        this.inputNoise.setLacunarity(2);
-        this.inputNoise.setNoiseQuality(NoiseQuality.STANDARD);
-        this.inputNoise.setPersistence(0.5);
-        this.inputNoise.setOctaveCount(4);
-
-        final ScaleBias scaleBias = new ScaleBias();
-        scaleBias.setSourceModule(0, this.inputNoise);
-        scaleBias.setScale(1 / getOutputMax(this.inputNoise));
-        scaleBias.setBias(0);
-
-        final ScalePoint scalePoint = new ScalePoint();
-        scalePoint.setSourceModule(0, scaleBias);
-        scalePoint.setXScale(0.5);
-        scalePoint.setYScale(1);
-        scalePoint.setZScale(0.5);
-
-        final Exponent exponent = new Exponent();
-        exponent.setSourceModule(0, scalePoint);
-        exponent.setExponent(2.2);
-
-        this.outputNoise.setSourceModule(0, exponent);
-        this.outputNoise.setMidPoint(MID_POINT);
-        this.outputNoise.setUpperSize(UPPER_SIZE);
-        this.outputNoise.setLowerSize(LOWER_SIZE);
-        this.outputNoise.setDegree(2);
-
         this.oreNoises = new OreNoise[]{
             new OreNoise(GenericMath.lerp(THRESHOLD, 1, 0.07), 0.3, 0.64, BlockTypes.DIAMOND_ORE),
             new OreNoise(GenericMath.lerp(THRESHOLD, 1, 0.06), 0.27, 0.64, BlockTypes.GOLD_ORE),
@@ -103,6 +80,11 @@ public SkylandsTerrainGenerator() {
             new OreNoise(GenericMath.lerp(THRESHOLD, 1, 0), 0.25, 0.64, BlockTypes.IRON_ORE),
             new OreNoise(GenericMath.lerp(THRESHOLD, 1, 0), 0.22, 0.63, BlockTypes.COAL_ORE)
         };
+        this.blockPalette = new BlockType[STONE + 1 + this.oreNoises.length];
+        this.blockPalette[STONE] = BlockTypes.STONE;
+        for (int i = 0; i < this.oreNoises.length; i++) {
+            this.blockPalette[STONE + 1 + i] = this.oreNoises[i].getBlock();
+        }
     }
 
     @Override
@@ -115,7 +97,6 @@ public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeVolum
         }
         final long seed = world.getProperties().getSeed();
         final int intSeed = (int) (seed >> 32 ^ seed);
-        this.inputNoise.setSeed(intSeed);
         final Vector3i size = buffer.getBlockSize();
         final int xSize = size.getX();
         final int ySize = size.getY();
@@ -123,29 +104,84 @@ public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeVolum
         final int xMin = min.getX();
         final int yMin = min.getY();
         final int zMin = min.getZ();
-        final int xMax = max.getX();
-        final int yMax = max.getY();
-        final int zMax = max.getZ();
-        final double[] noise = SkylandsUtil.fastNoise(this.outputNoise, NOISE_SAMPLING_RATE, xMin, yMin, zMin, xSize, ySize, zSize);
-        for (int zz = zMin; zz <= zMax; zz++) {
-            for (int yy = yMin; yy <= yMax; yy++) {
-                xIteration:
-                for (int xx = xMin; xx <= xMax; xx++) {
-                    final double density = noise[SkylandsUtil.index3D(xx - xMin, yy - yMin, zz - zMin, xSize + 1, ySize + 1)];
-                    if (density >= THRESHOLD) {
-                        for (OreNoise oreNoise : this.oreNoises) {
-                            if (oreNoise.hasBlock(density, xx, yy, zz, intSeed)) {
-                                buffer.setBlockType(xx, yy, zz, oreNoise.getBlock(), this.generatorCause);
-                                continue xIteration;
-                            }
-                        }
-                        buffer.setBlockType(xx, yy, zz, BlockTypes.STONE, this.generatorCause);
+        final Module densityNoise = this.terrainNoise.get().withSeed(intSeed);
+        final double[] noise = SkylandsUtil.fastNoise(densityNoise, NOISE_SAMPLING_RATE, xMin, yMin, zMin, xSize, ySize, zSize);
+        // the block of each position, as an index in the block palette, is decided in batches before anything is placed
+        final byte[] blocks = new byte[xSize * ySize * zSize];
+        int index = 0;
+        for (int zz = 0; zz < zSize; zz++) {
+            for (int yy = 0; yy < ySize; yy++) {
+                int densityIndex = SkylandsUtil.index3D(0, yy, zz, xSize + 1, ySize + 1);
+                for (int xx = 0; xx < xSize; xx++) {
+                    if (noise[densityIndex++] >= THRESHOLD) {
+                        blocks[index] = STONE;
+                    }
+                    index++;
+                }
+            }
+        }
+        // the ores are tried in order, each only on the stone left by the previous ones
+        for (int i = 0; i < this.oreNoises.length; i++) {
+            this.oreNoises[i].placeOres(noise, blocks, (byte) (STONE + 1 + i), xMin, yMin, zMin, xSize, ySize, zSize, intSeed);
+        }
+        index = 0;
+        for (int zz = 0; zz < zSize; zz++) {
+            for (int yy = 0; yy < ySize; yy++) {
+                for (int xx = 0; xx < xSize; xx++) {
+                    final byte block = blocks[index++];
+                    if (block != AIR) {
+                        buffer.setBlockType(xMin + xx, yMin + yy, zMin + zz, this.blockPalette[block], this.generatorCause);
                     }
                 }
             }
         }
     }
 
+    /**
+     * The density noise used for the terrain. Instances are confined to a
+     * single thread, as the seed of the input noise is changed for every
+     * buffer that is generated.
+     */
+    private static class TerrainNoise {
+
+        private final Perlin inputNoise = new Perlin();
+        private final VerticalScaling outputNoise = new VerticalScaling();
+
+        TerrainNoise() {
+            this.inputNoise.setFrequency(0.04);
+            this.inputNoise.setLacunarity(2);
+            this.inputNoise.setNoiseQuality(NoiseQuality.STANDARD);
+            this.inputNoise.setPersistence(0.5);
+            this.inputNoise.setOctaveCount(4);
+
+            final ScaleBias scaleBias = new ScaleBias();
+            scaleBias.setSourceModule(0, this.inputNoise);
+            scaleBias.setScale(1 / getOutputMax(this.inputNoise));
+            scaleBias.setBias(0);
+
+            final ScalePoint scalePoint = new ScalePoint();
+            scalePoint.setSourceModule(0, scaleBias);
+            scalePoint.setXScale(0.5);
+            scalePoint.setYScale(1);
+            scalePoint.setZScale(0.5);
+
+            final Exponent exponent = new Exponent();
+            exponent.setSourceModule(0, scalePoint);
+            exponent.setExponent(2.2);
+
+            this.outputNoise.setSourceModule(0, exponent);
+            this.outputNoise.setMidPoint(MID_POINT);
+            this.outputNoise.setUpperSize(UPPER_SIZE);
+            this.outputNoise.setLowerSize(LOWER_SIZE);
+            this.outputNoise.setDegree(2);
+        }
+
+        Module withSeed(int seed) {
+            this.inputNoise.setSeed(seed);
+            return this.outputNoise;
+        }
+    }
+
     private static double getOutputMax(Perlin perlin) {
         final int octaves = perlin.getOctaveCount();
         final double persistence = perlin.getPersistence();
@@ -217,9 +253,39 @@ static class OreNoise {
             this.seedModifier = block.getName().hashCode();
         }
 
-        boolean hasBlock(double density, double x, double y, double z, int seed) {
-            return density >= this.densityThreshold && Noise.gradientCoherentNoise3D(x * this.frequency, y * this.frequency, z * this.frequency,
-                seed ^ this.seedModifier, NoiseQuality.FAST) >= this.noiseThreshold;
+        /**
+         * Replaces the stone in the blocks with this ore where the density
+         * and the ore noise are high enough. The ore noise is only evaluated
+         * for the positions that are still stone.
+         *
+         * @param density The density noise, sized one larger on all axes
+         * @param blocks The blocks, as indices in the block palette
+         * @param ore The block palette index of this ore
+         * @param x The x coordinate of the origin
+         * @param y The y coordinate of the origin
+         * @param z The z coordinate of the origin
+         * @param xSize The size on x
+         * @param ySize The size on y
+         * @param zSize The size on z
+         * @param seed The seed
+         */
+        void placeOres(double[] density, byte[] blocks, byte ore, int x, int y, int z, int xSize, int ySize, int zSize, int seed) {
+            final int oreSeed = seed ^ this.seedModifier;
+            int index = 0;
+            for (int zz = 0; zz < zSize; zz++) {
+                final double zNoise = (z + zz) * this.frequency;
+                for (int yy = 0; yy < ySize; yy++) {
+                    final double yNoise = (y + yy) * this.frequency;
+                    int densityIndex = SkylandsUtil.index3D(0, yy, zz, xSize + 1, ySize + 1);
+                    for (int xx = 0; xx < xSize; xx++, index++, densityIndex++) {
+                        if (blocks[index] == STONE && density[densityIndex] >= this.densityThreshold
+                            && Noise.gradientCoherentNoise3D((x + xx) * this.frequency, yNoise, zNoise, oreSeed, NoiseQuality.FAST)
+                                >= this.noiseThreshold) {
+                            blocks[index] = ore;
+                        }
+                    }
+                }
+            }
         }
 
         BlockType getBlock() {
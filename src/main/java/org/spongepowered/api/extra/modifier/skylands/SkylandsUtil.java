@@ -29,6 +29,7 @@
 import com.flowpowered.noise.module.Module;
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.gen.SurfaceCache;
 
 /**
  * Private utility methods for the Skylands generator too specific to be made
@@ -39,6 +40,14 @@ class SkylandsUtil {
     /**
      * Generates a 3D noise map using reduced sampling and trilinear
      * interpolation. The returned array is one larger in all dimensions.
+     *
+     * <p>The noise generator is only evaluated at the sampling points. The
+     * remaining values are interpolated one axis at a time: first along x on
+     * the sampled rows, then along y for whole rows, and then along z for
+     * whole planes. Apart from the sampled rows, every pass works on
+     * contiguous runs of the array. The passes use the same order and
+     * weights as {@link GenericMath#triLerp}, so the values are the same as
+     * when interpolating each point on its own.</p>
      * TODO: make me public?
      *
      * @param noiseGenerator The noise generator module
@@ -62,7 +71,8 @@ static double[] fastNoise(Module noiseGenerator, Vector3i samplingRate, int x, i
         final int samplingRateX = samplingRate.getX();
         final int samplingRateY = samplingRate.getY();
         final int samplingRateZ = samplingRate.getZ();
-        final double[] noiseArray = new double[xSize * ySize * zSize];
+        final int planeSize = xSize * ySize;
+        final double[] noiseArray = new double[planeSize * zSize];
         for (int zz = 0; zz < zSize; zz += samplingRateZ) {
             for (int yy = 0; yy < ySize; yy += samplingRateY) {
                 for (int xx = 0; xx < xSize; xx += samplingRateX) {
@@ -70,38 +80,75 @@ static double[] fastNoise(Module noiseGenerator, Vector3i samplingRate, int x, i
                 }
             }
         }
-        for (int zz = 0; zz < zSize - 1; zz++) {
-            final int zFract = zz % samplingRateZ;
-            final int zPrevious = zz - zFract;
-            final int zNext = zPrevious + samplingRateZ;
-            for (int yy = 0; yy < ySize - 1; yy++) {
-                final int yFract = yy % samplingRateY;
-                final int yPrevious = yy - yFract;
-                final int yNext = yPrevious + samplingRateY;
-                for (int xx = 0; xx < xSize - 1; xx++) {
-                    final int xFract = xx % samplingRateX;
-                    if (xFract == 0 && yFract == 0 && zFract == 0) {
-                        continue;
+        // along x, only on the rows that contain sampling points
+        final double[] xPreviousWeights = previousWeights(samplingRateX);
+        final double[] xNextWeights = nextWeights(samplingRateX);
+        for (int zz = 0; zz < zSize; zz += samplingRateZ) {
+            for (int yy = 0; yy < ySize; yy += samplingRateY) {
+                final int row = index3D(0, yy, zz, xSize, ySize);
+                for (int xPrevious = 0; xPrevious < xSize - 1; xPrevious += samplingRateX) {
+                    final double previous = noiseArray[row + xPrevious];
+                    final double next = noiseArray[row + xPrevious + samplingRateX];
+                    for (int xFract = 1; xFract < samplingRateX; xFract++) {
+                        noiseArray[row + xPrevious + xFract] = lerp(previous, next, xPreviousWeights[xFract], xNextWeights[xFract]);
                     }
-                    final int xPrevious = xx - xFract;
-                    final int xNext = xPrevious + samplingRateX;
-                    noiseArray[index3D(xx, yy, zz, xSize, ySize)] = GenericMath.triLerp(xx, yy, zz,
-                        noiseArray[index3D(xPrevious, yPrevious, zPrevious, xSize, ySize)],
-                        noiseArray[index3D(xPrevious, yNext, zPrevious, xSize, ySize)],
-                        noiseArray[index3D(xPrevious, yPrevious, zNext, xSize, ySize)],
-                        noiseArray[index3D(xPrevious, yNext, zNext, xSize, ySize)],
-                        noiseArray[index3D(xNext, yPrevious, zPrevious, xSize, ySize)],
-                        noiseArray[index3D(xNext, yNext, zPrevious, xSize, ySize)],
-                        noiseArray[index3D(xNext, yPrevious, zNext, xSize, ySize)],
-                        noiseArray[index3D(xNext, yNext, zNext, xSize, ySize)],
-                        xPrevious, xNext, yPrevious, yNext, zPrevious, zNext);
                 }
             }
-
+        }
+        // along y, for whole rows on the planes that contain sampling points
+        final double[] yPreviousWeights = previousWeights(samplingRateY);
+        final double[] yNextWeights = nextWeights(samplingRateY);
+        for (int zz = 0; zz < zSize; zz += samplingRateZ) {
+            final int plane = zz * planeSize;
+            for (int yPrevious = 0; yPrevious < ySize - 1; yPrevious += samplingRateY) {
+                final int previous = plane + yPrevious * xSize;
+                final int next = previous + samplingRateY * xSize;
+                for (int yFract = 1; yFract < samplingRateY; yFract++) {
+                    lerpRun(noiseArray, previous, next, previous + yFract * xSize, xSize, yPreviousWeights[yFract], yNextWeights[yFract]);
+                }
+            }
+        }
+        // along z, for whole planes
+        final double[] zPreviousWeights = previousWeights(samplingRateZ);
+        final double[] zNextWeights = nextWeights(samplingRateZ);
+        for (int zPrevious = 0; zPrevious < zSize - 1; zPrevious += samplingRateZ) {
+            final int previous = zPrevious * planeSize;
+            final int next = previous + samplingRateZ * planeSize;
+            for (int zFract = 1; zFract < samplingRateZ; zFract++) {
+                lerpRun(noiseArray, previous, next, previous + zFract * planeSize, planeSize, zPreviousWeights[zFract], zNextWeights[zFract]);
+            }
         }
         return noiseArray;
     }
 
+    private static double[] previousWeights(int samplingRate) {
+        final double[] weights = new double[samplingRate];
+        for (int i = 0; i < samplingRate; i++) {
+            weights[i] = (samplingRate - i) / (double) samplingRate;
+        }
+        return weights;
+    }
+
+    private static double[] nextWeights(int samplingRate) {
+        final double[] weights = new double[samplingRate];
+        for (int i = 0; i < samplingRate; i++) {
+            weights[i] = i / (double) samplingRate;
+        }
+        return weights;
+    }
+
+    private static double lerp(double previous, double next, double previousWeight, double nextWeight) {
+        // the same expression as GenericMath.lerp, so the results are identical
+        return previousWeight * previous + nextWeight * next;
+    }
+
+    private static void lerpRun(double[] array, int previous, int next, int target, int length, double previousWeight, double nextWeight) {
+        // a plain counted loop over primitives, which the JIT can vectorize
+        for (int i = 0; i < length; i++) {
+            array[target + i] = lerp(array[previous + i], array[next + i], previousWeight, nextWeight);
+        }
+    }
+
     /**
      * Returns the index in the flat array corresponding to the 3D coordinates.
      * TODO: make me public?
@@ -167,6 +214,28 @@ static int getNextSolid(MutableBlockVolume buffer, int x, int y, int z, int yEnd
         return y;
     }
 
+    /**
+     * Gets the next non-air block in the buffer of the surface cache,
+     * starting from the given y coordinate and going down until yEnd. The
+     * column is only scanned if its surface is above the starting point.
+     * Returns yEnd - 1 if none is found.
+     *
+     * @param surfaces The surface cache of the buffer
+     * @param x The x coordinate of the starting point
+     * @param y The y coordinate of the starting point
+     * @param z The z coordinate of the starting point
+     * @param yEnd The lowest y coordinate to check
+     * @return The y coordinate of the next non-air block or yEnd - 1 if none
+     *     found.
+     */
+    static int getNextSolid(SurfaceCache surfaces, int x, int y, int z, int yEnd) {
+        final int surface = surfaces.getSurface(x, z);
+        if (surface > y) {
+            return getNextSolid(surfaces.getBuffer(), x, y, z, yEnd);
+        }
+        return surface >= yEnd ? surface : yEnd - 1;
+    }
+
     /**
      * Gets the next air block in the buffer, starting from the given y
      * coordinate and going down until yEnd. Returns yEnd if none is found.
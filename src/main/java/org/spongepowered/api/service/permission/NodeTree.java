@@ -24,12 +24,15 @@
  */
 package org.spongepowered.api.service.permission;
 
-import com.google.common.base.Splitter;
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import com.google.common.collect.ImmutableMap;
 import org.spongepowered.api.util.Tristate;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
+
+import javax.annotation.Nullable;
 
 /**
  * An immutable tree structure for determining node data. Any changes will
@@ -44,16 +47,19 @@
  *     <li>Keys are case-insensitive.</li>
  *     <li>Segments of nodes are split by the '.' character</li>
  * </ul>
+ *
+ * <p>The tree is stored as a radix tree over segments: chains of segments
+ * without a value of their own are collapsed into a single edge. Looking up a
+ * node compares the segments of the node in place, and does not allocate.
+ * Changing a value only copies the nodes on the path to it, the rest of the
+ * tree is shared with the original.</p>
  */
 public class NodeTree {
 
-    private static final Splitter NODE_SPLITTER = Splitter.on('.');
-    private final Node rootNode;
+    private static final String[] NO_LABELS = new String[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
 
-    private NodeTree(Tristate value) {
-        this.rootNode = new Node(new HashMap<>());
-        this.rootNode.value = value;
-    }
+    private final Node rootNode;
 
     private NodeTree(Node rootNode) {
         this.rootNode = rootNode;
@@ -79,22 +85,23 @@ public static NodeTree of(Map<String, Boolean> values) {
      * @return The newly created node tree
      */
     public static NodeTree of(Map<String, Boolean> values, Tristate defaultValue) {
-        NodeTree newTree = new NodeTree(defaultValue);
+        checkNotNull(defaultValue, "defaultValue");
+        final MutableNode root = new MutableNode();
         for (Map.Entry<String, Boolean> value : values.entrySet()) {
-            Iterable<String> parts = NODE_SPLITTER.split(value.getKey().toLowerCase());
-            Node currentNode = newTree.rootNode;
-            for (String part : parts) {
-                if (currentNode.children.containsKey(part)) {
-                    currentNode = currentNode.children.get(part);
-                } else {
-                    Node newNode = new Node(new HashMap<>());
-                    currentNode.children.put(part, newNode);
-                    currentNode = newNode;
+            final String node = toLowerCase(value.getKey());
+            MutableNode currentNode = root;
+            int start = 0;
+            while (true) {
+                final int end = segmentEnd(node, start);
+                currentNode = currentNode.children.computeIfAbsent(node.substring(start, end), key -> new MutableNode());
+                if (end == node.length()) {
+                    break;
                 }
+                start = end + 1;
             }
             currentNode.value = Tristate.fromBoolean(value.getValue());
         }
-        return newTree;
+        return new NodeTree(root.toNode(defaultValue));
     }
 
     /**
@@ -105,20 +112,32 @@ public static NodeTree of(Map<String, Boolean> values, Tristate defaultValue) {
      * @return The tristate value for the given node
      */
     public Tristate get(String node) {
-        Iterable<String> parts = NODE_SPLITTER.split(node.toLowerCase());
+        final int length = node.length();
         Node currentNode = this.rootNode;
         Tristate lastUndefinedVal = Tristate.UNDEFINED;
-        for (String str : parts) {
-            if (!currentNode.children.containsKey(str)) {
+        int start = 0;
+        while (true) {
+            final int index = currentNode.indexOf(node, start, segmentEnd(node, start));
+            if (index < 0) {
+                break;
+            }
+            // The first segment of the edge matched, the segments collapsed
+            // into the rest of the edge have to match as well
+            final String label = currentNode.labels[index];
+            final int end = start + label.length();
+            if (end > length || (end < length && node.charAt(end) != '.') || !matches(label, node, start)) {
                 break;
             }
-            currentNode = currentNode.children.get(str);
+            currentNode = currentNode.children[index];
             if (currentNode.value != Tristate.UNDEFINED) {
                 lastUndefinedVal = currentNode.value;
             }
+            if (end == length) {
+                break;
+            }
+            start = end + 1;
         }
         return lastUndefinedVal;
-
     }
 
     /**
@@ -128,8 +147,8 @@ public Tristate get(String node) {
      */
     public Map<String, Boolean> asMap() {
         ImmutableMap.Builder<String, Boolean> ret = ImmutableMap.builder();
-        for (Map.Entry<String, Node> ent : this.rootNode.children.entrySet()) {
-            populateMap(ret, ent.getKey(), ent.getValue());
+        for (int i = 0; i < this.rootNode.labels.length; i++) {
+            populateMap(ret, this.rootNode.labels[i], this.rootNode.children[i]);
         }
         return ret.build();
     }
@@ -138,34 +157,25 @@ private void populateMap(ImmutableMap.Builder<String, Boolean> values, String pr
         if (currentNode.value != Tristate.UNDEFINED) {
             values.put(prefix, currentNode.value.asBoolean());
         }
-        for (Map.Entry<String, Node> ent : currentNode.children.entrySet()) {
-            populateMap(values, prefix + '.' + ent.getKey(), ent.getValue());
+        for (int i = 0; i < currentNode.labels.length; i++) {
+            populateMap(values, prefix + '.' + currentNode.labels[i], currentNode.children[i]);
         }
     }
 
     /**
      * Return a new NodeTree instance with a single changed value.
      *
+     * <p>The values of the parent nodes of the changed node, apart from the
+     * root, are reset to {@link Tristate#UNDEFINED}.</p>
+     *
      * @param node The node path to change the value of
      * @param value The value to change, or UNDEFINED to remove
      * @return The new, modified node tree
      */
     public NodeTree withValue(String node, Tristate value) {
-        Iterable<String> parts = NODE_SPLITTER.split(node.toLowerCase());
-        Node newRoot = new Node(new HashMap<>(this.rootNode.children));
-        Node newPtr = newRoot;
-        Node currentPtr = this.rootNode;
-
-        newPtr.value = currentPtr == null ? Tristate.UNDEFINED : currentPtr.value;
-        for (String part : parts) {
-            Node oldChild = currentPtr == null ? null : currentPtr.children.get(part);
-            Node newChild = new Node(oldChild != null ? new HashMap<>(oldChild.children) : new HashMap<>());
-            newPtr.children.put(part, newChild);
-            currentPtr = oldChild;
-            newPtr = newChild;
-        }
-        newPtr.value = value;
-        return new NodeTree(newRoot);
+        checkNotNull(value, "value");
+        final Node newRoot = with(this.rootNode, toLowerCase(node), value);
+        return newRoot == this.rootNode ? this : new NodeTree(newRoot);
     }
 
     /**
@@ -175,20 +185,207 @@ public NodeTree withValue(String node, Tristate value) {
      * @return The new node tree
      */
     public NodeTree withAll(Map<String, Tristate> values) {
-        NodeTree ret = this;
+        Node newRoot = this.rootNode;
         for (Map.Entry<String, Tristate> ent : values.entrySet()) {
-            ret = ret.withValue(ent.getKey(), ent.getValue());
+            newRoot = with(newRoot, toLowerCase(ent.getKey()), checkNotNull(ent.getValue(), "value"));
+        }
+        return newRoot == this.rootNode ? this : new NodeTree(newRoot);
+    }
+
+    /**
+     * Sets the value of the given path, relative to the given node, and
+     * returns the changed copy of the node.
+     *
+     * @param node The node
+     * @param path The lower case path, or null to change the node itself
+     * @param value The new value
+     * @return The changed node
+     */
+    private static Node with(Node node, @Nullable String path, Tristate value) {
+        if (path == null) {
+            return node.value == value ? node : new Node(value, node.labels, node.children);
+        }
+        final int index = node.indexOf(path, 0, segmentEnd(path, 0));
+        if (index < 0) {
+            return value == Tristate.UNDEFINED ? node : node.withChild(-index - 1, path, new Node(value, NO_LABELS, NO_CHILDREN), true);
+        }
+        final String label = node.labels[index];
+        final Node child = node.children[index];
+        // Find the first character where the label and the path differ
+        final int length = Math.min(label.length(), path.length());
+        int mismatch = 0;
+        while (mismatch < length && label.charAt(mismatch) == path.charAt(mismatch)) {
+            mismatch++;
+        }
+        if (mismatch == label.length() && (mismatch == path.length() || path.charAt(mismatch) == '.')) {
+            if (mismatch == path.length()) {
+                final Node newChild = with(child, null, value);
+                return newChild == child ? node : node.withChild(index, label, newChild, false);
+            }
+            // The path continues below the child. Like the copying
+            // implementation this replaced, the nodes passed on the way to the
+            // changed node lose their own value.
+            final Node passed = child.value == Tristate.UNDEFINED ? child : new Node(Tristate.UNDEFINED, child.labels, child.children);
+            final Node newChild = with(passed, path.substring(mismatch + 1), value);
+            return newChild == child ? node : node.withChild(index, label, newChild, false);
+        }
+        if (value == Tristate.UNDEFINED) {
+            return node;
         }
-        return ret;
+        // The path leaves the edge part way, split it at the last shared segment
+        final int split = mismatch == path.length() && label.charAt(mismatch) == '.' ? mismatch : label.lastIndexOf('.', mismatch - 1);
+        final Node middle = new Node(Tristate.UNDEFINED, new String[] {label.substring(split + 1)}, new Node[] {child});
+        return node.withChild(index, label.substring(0, split),
+                with(middle, split == path.length() ? null : path.substring(split + 1), value), false);
     }
 
-    private static class Node {
+    private static String toLowerCase(String node) {
+        checkNotNull(node, "node");
+        // Lower case by character, so the lookup can do the same in place
+        final char[] chars = node.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
 
-        final Map<String, Node> children;
-        Tristate value = Tristate.UNDEFINED;
+    private static int segmentEnd(String node, int start) {
+        final int end = node.indexOf('.', start);
+        return end == -1 ? node.length() : end;
+    }
 
-        Node(Map<String, Node> children) {
+    /**
+     * Compares the first segment of a label to a segment of a node, ignoring
+     * the case of the node.
+     */
+    private static int compareSegment(String label, String node, int start, int end) {
+        final int labelEnd = segmentEnd(label, 0);
+        final int length = Math.min(labelEnd, end - start);
+        for (int i = 0; i < length; i++) {
+            final char a = label.charAt(i);
+            final char b = Character.toLowerCase(node.charAt(start + i));
+            if (a != b) {
+                return a - b;
+            }
+        }
+        return labelEnd - (end - start);
+    }
+
+    /**
+     * Gets whether the whole label matches the node from the given start
+     * index, ignoring the case of the node.
+     */
+    private static boolean matches(String label, String node, int start) {
+        for (int i = 0; i < label.length(); i++) {
+            if (label.charAt(i) != Character.toLowerCase(node.charAt(start + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Node {
+
+        final Tristate value;
+        // The edges to the children, sorted by their first segment. An edge
+        // consists of multiple segments if the nodes between them have no
+        // value and only one child.
+        final String[] labels;
+        final Node[] children;
+
+        Node(Tristate value, String[] labels, Node[] children) {
+            this.value = value;
+            this.labels = labels;
             this.children = children;
         }
+
+        /**
+         * Searches the edge starting with the given segment of the node.
+         *
+         * @return The index of the edge, or (-(insertion point) - 1) if there
+         *     is none
+         */
+        int indexOf(String node, int start, int end) {
+            int low = 0;
+            int high = this.labels.length - 1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final int cmp = compareSegment(this.labels[mid], node, start, end);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        /**
+         * Returns a copy of this node with the edge at the given index
+         * replaced or inserted. The edge is removed if the child is empty, and
+         * merged with the edge of the child if the child has no value and only
+         * one child.
+         */
+        Node withChild(int index, String label, Node child, boolean insert) {
+            final boolean remove = child.value == Tristate.UNDEFINED && child.children.length == 0;
+            if (!remove && child.value == Tristate.UNDEFINED && child.children.length == 1) {
+                label = label + '.' + child.labels[0];
+                child = child.children[0];
+            }
+            final int length = this.labels.length;
+            final String[] labels;
+            final Node[] children;
+            if (remove) {
+                labels = new String[length - 1];
+                children = new Node[length - 1];
+                System.arraycopy(this.labels, index + 1, labels, index, length - index - 1);
+                System.arraycopy(this.children, index + 1, children, index, length - index - 1);
+            } else if (insert) {
+                labels = new String[length + 1];
+                children = new Node[length + 1];
+                System.arraycopy(this.labels, index, labels, index + 1, length - index);
+                System.arraycopy(this.children, index, children, index + 1, length - index);
+            } else {
+                labels = new String[length];
+                children = new Node[length];
+                System.arraycopy(this.labels, index + 1, labels, index + 1, length - index - 1);
+                System.arraycopy(this.children, index + 1, children, index + 1, length - index - 1);
+            }
+            System.arraycopy(this.labels, 0, labels, 0, index);
+            System.arraycopy(this.children, 0, children, 0, index);
+            if (!remove) {
+                labels[index] = label;
+                children[index] = child;
+            }
+            return new Node(this.value, labels, children);
+        }
+
     }
+
+    private static final class MutableNode {
+
+        final Map<String, MutableNode> children = new TreeMap<>();
+        Tristate value = Tristate.UNDEFINED;
+
+        Node toNode(Tristate value) {
+            final String[] labels = new String[this.children.size()];
+            final Node[] children = new Node[this.children.size()];
+            int i = 0;
+            for (Map.Entry<String, MutableNode> entry : this.children.entrySet()) {
+                String label = entry.getKey();
+                Node child = entry.getValue().toNode(entry.getValue().value);
+                if (child.value == Tristate.UNDEFINED && child.children.length == 1) {
+                    label = label + '.' + child.labels[0];
+                    child = child.children[0];
+                }
+                labels[i] = label;
+                children[i++] = child;
+            }
+            return new Node(value, labels, children);
+        }
+
+    }
+
 }
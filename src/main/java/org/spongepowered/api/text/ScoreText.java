@@ -106,6 +106,12 @@ public Builder toBuilder() {
         return new Builder(this);
     }
 
+    @Override
+    boolean isContentImmutable() {
+        // The value of the score may change at any time
+        return this.override.isPresent();
+    }
+
     @Override
     public boolean equals(@Nullable Object o) {
         if (this == o) {
@@ -43,10 +43,12 @@
 import org.spongepowered.api.text.format.TextStyle;
 import org.spongepowered.api.text.format.TextStyles;
 import org.spongepowered.api.text.selector.Selector;
+import org.spongepowered.api.text.serializer.TextSerializer;
 import org.spongepowered.api.text.serializer.TextSerializers;
 import org.spongepowered.api.text.translation.Translatable;
 import org.spongepowered.api.text.translation.Translation;
 
+import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -100,6 +102,15 @@ public abstract class Text implements TextRepresentable, DataSerializable, Compa
      */
     public static Comparator<Text> PLAIN_COMPARATOR = (text1, text2) -> text1.toPlain().compareTo(text2.toPlain());
 
+    /**
+     * The maximum number of serialized representations remembered per text.
+     */
+    private static final int MAX_SERIALIZED_FORMS = 4;
+
+    private static final byte CACHEABILITY_UNKNOWN = 0;
+    private static final byte CACHEABLE = 1;
+    private static final byte NOT_CACHEABLE = 2;
+
     final TextFormat format;
     final ImmutableList<Text> children;
     final Optional<ClickAction<?>> clickAction;
@@ -112,6 +123,9 @@ public abstract class Text implements TextRepresentable, DataSerializable, Compa
      */
     final Iterable<Text> childrenIterable;
 
+    private volatile byte cacheability = CACHEABILITY_UNKNOWN;
+    @Nullable private volatile SerializedText serialized;
+
     Text() {
         this.format = TextFormat.NONE; // TODO
         this.children = ImmutableList.of();
@@ -191,6 +205,56 @@ public final Iterable<Text> withChildren() {
         return this.childrenIterable;
     }
 
+    /**
+     * Visits this text and all of its children with the specified
+     * {@link TextVisitor}, in a single pass over the tree.
+     *
+     * <p>The traversal keeps an explicit stack rather than recursing, so
+     * deeply nested texts are visited without deep call chains.</p>
+     *
+     * @param visitor The visitor to visit the texts with
+     */
+    public final void accept(TextVisitor visitor) {
+        checkNotNull(visitor, "visitor");
+        if (!visitor.enter(this)) {
+            return;
+        }
+        visitor.content(this);
+        if (this.children.isEmpty()) {
+            visitor.leave(this);
+            return;
+        }
+        Text[] parents = new Text[4];
+        int[] indices = new int[4];
+        int depth = 0;
+        parents[0] = this;
+        while (depth >= 0) {
+            final Text parent = parents[depth];
+            final int index = indices[depth];
+            if (index == parent.children.size()) {
+                visitor.leave(parent);
+                parents[depth--] = null;
+                continue;
+            }
+            indices[depth] = index + 1;
+            final Text child = parent.children.get(index);
+            if (!visitor.enter(child)) {
+                continue;
+            }
+            visitor.content(child);
+            if (child.children.isEmpty()) {
+                visitor.leave(child);
+                continue;
+            }
+            if (++depth == parents.length) {
+                parents = Arrays.copyOf(parents, depth * 2);
+                indices = Arrays.copyOf(indices, depth * 2);
+            }
+            parents[depth] = child;
+            indices[depth] = 0;
+        }
+    }
+
     /**
      * Returns the {@link ClickAction} executed on the client when this
      * {@link Text} gets clicked.
@@ -249,7 +313,96 @@ public final boolean isEmpty() {
      * @return This text converted to plain text
      */
     public final String toPlain() {
-        return TextSerializers.PLAIN.serialize(this);
+        return serialize(TextSerializers.PLAIN);
+    }
+
+    /**
+     * Returns a string representation of this {@link Text} in the format of
+     * the provided {@link TextSerializer}.
+     *
+     * <p>Since texts are immutable, the representation is remembered for the
+     * last few serializers used, so serializing the same instance again (for
+     * example when broadcasting it to many receivers) does not walk the text
+     * again. Remembered representations are softly referenced and may be
+     * discarded when memory runs low. Texts whose representation may change
+     * over time, such as texts showing a {@link ScoreText score} or a
+     * {@link TranslatableText translation}, are serialized every time.</p>
+     *
+     * @param serializer The serializer to use
+     * @return The string representation of this text
+     */
+    public final String serialize(TextSerializer serializer) {
+        checkNotNull(serializer, "serializer");
+        if (!isSerializationCacheable()) {
+            return serializer.serialize(this);
+        }
+        final SerializedText head = this.serialized;
+        for (SerializedText cached = head; cached != null; cached = cached.next) {
+            if (cached.serializer == serializer) {
+                final String result = cached.get();
+                if (result != null) {
+                    return result;
+                }
+                break;
+            }
+        }
+        final String result = serializer.serialize(this);
+        // Racing writers may drop each other's entries, which only costs
+        // serializing again
+        this.serialized = new SerializedText(serializer, result, copyWithout(head, serializer, MAX_SERIALIZED_FORMS - 1));
+        return result;
+    }
+
+    @Nullable
+    private static SerializedText copyWithout(@Nullable SerializedText entry, TextSerializer serializer, int limit) {
+        if (limit == 0) {
+            return null;
+        }
+        for (; entry != null; entry = entry.next) {
+            final String value = entry.get();
+            if (value != null && entry.serializer != serializer) {
+                return new SerializedText(entry.serializer, value, copyWithout(entry.next, serializer, limit - 1));
+            }
+        }
+        return null;
+    }
+
+    final boolean isSerializationCacheable() {
+        byte cacheability = this.cacheability;
+        if (cacheability == CACHEABILITY_UNKNOWN) {
+            this.cacheability = cacheability = computeSerializationCacheable() ? CACHEABLE : NOT_CACHEABLE;
+        }
+        return cacheability == CACHEABLE;
+    }
+
+    private boolean computeSerializationCacheable() {
+        if (!isContentImmutable()) {
+            return false;
+        }
+        // Callbacks are registered by the serializer, and may expire
+        if (this.clickAction.isPresent() && this.clickAction.get() instanceof ClickAction.ExecuteCallback) {
+            return false;
+        }
+        if (this.hoverAction.isPresent() && this.hoverAction.get() instanceof HoverAction.ShowText
+                && !((HoverAction.ShowText) this.hoverAction.get()).getResult().isSerializationCacheable()) {
+            return false;
+        }
+        for (Text child : this.children) {
+            if (!child.isSerializationCacheable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the content of this text always has the same
+     * representation, ignoring its children and actions.
+     *
+     * @return Whether the content of this text is immutable
+     */
+    boolean isContentImmutable() {
+        return true;
     }
 
     /**
@@ -292,7 +445,7 @@ public int getContentVersion() {
     public DataContainer toContainer() {
         return DataContainer.createNew()
                 .set(Queries.CONTENT_VERSION, getContentVersion())
-                .set(Queries.JSON, TextSerializers.JSON.serialize(this));
+                .set(Queries.JSON, serialize(TextSerializers.JSON));
     }
 
     @Override
@@ -1270,4 +1423,17 @@ public static Text joinWith(Text separator, Iterator<? extends Text> texts) {
         return builder.build();
     }
 
+    private static final class SerializedText extends SoftReference<String> {
+
+        final TextSerializer serializer;
+        @Nullable final SerializedText next;
+
+        SerializedText(TextSerializer serializer, String serialized, @Nullable SerializedText next) {
+            super(serialized);
+            this.serializer = serializer;
+            this.next = next;
+        }
+
+    }
+
 }
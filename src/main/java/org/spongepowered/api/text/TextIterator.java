@@ -24,6 +24,7 @@
  */
 package org.spongepowered.api.text;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -32,12 +33,20 @@
 /**
  * Represents a recursive {@link Iterator} for {@link Text} including the text
  * itself as well as all children texts.
+ *
+ * <p>The texts are returned in pre-order. Instead of nesting an iterator for
+ * each level of the tree, the iterator keeps an explicit stack of the texts
+ * whose children are being iterated, so deeply nested texts are iterated
+ * without deep call chains.</p>
  */
 final class TextIterator implements Iterator<Text> {
 
-    private final Text text;
-    @Nullable private Iterator<Text> children;
-    @Nullable private Iterator<Text> currentChildIterator;
+    private static final int INITIAL_DEPTH = 4;
+
+    @Nullable private Text next;
+    private Text[] parents = new Text[INITIAL_DEPTH];
+    private int[] indices = new int[INITIAL_DEPTH];
+    private int depth = -1;
 
     /**
      * Constructs a new {@link TextIterator} for the specified {@link Text}.
@@ -45,27 +54,40 @@ final class TextIterator implements Iterator<Text> {
      * @param text The root text for the iterator
      */
     TextIterator(Text text) {
-        this.text = text;
+        this.next = text;
     }
 
     @Override
     public boolean hasNext() {
-        return this.children == null || (this.currentChildIterator != null && this.currentChildIterator.hasNext()) || this.children.hasNext();
+        return this.next != null;
     }
 
     @Override
     public Text next() {
-        if (!hasNext()) {
+        final Text current = this.next;
+        if (current == null) {
             throw new NoSuchElementException();
         }
-        if (this.children == null) {
-            this.children = this.text.children.iterator();
-            return this.text;
-        } else if (this.currentChildIterator == null || !this.currentChildIterator.hasNext()) {
-            this.currentChildIterator = this.children.next().childrenIterable.iterator();
+        if (!current.children.isEmpty()) {
+            if (++this.depth == this.parents.length) {
+                this.parents = Arrays.copyOf(this.parents, this.depth * 2);
+                this.indices = Arrays.copyOf(this.indices, this.depth * 2);
+            }
+            this.parents[this.depth] = current;
+            this.indices[this.depth] = 0;
         }
-
-        return this.currentChildIterator.next();
+        this.next = null;
+        while (this.depth >= 0) {
+            final Text parent = this.parents[this.depth];
+            final int index = this.indices[this.depth];
+            if (index < parent.children.size()) {
+                this.indices[this.depth] = index + 1;
+                this.next = parent.children.get(index);
+                break;
+            }
+            this.parents[this.depth--] = null;
+        }
+        return current;
     }
 
 }
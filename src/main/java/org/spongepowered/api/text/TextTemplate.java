@@ -36,6 +36,8 @@
 import org.spongepowered.api.text.format.TextColor;
 import org.spongepowered.api.text.format.TextFormat;
 import org.spongepowered.api.text.format.TextStyle;
+import org.spongepowered.api.text.serializer.TextSerializer;
+import org.spongepowered.api.text.serializer.TextSerializers;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -77,6 +79,7 @@ public final class TextTemplate implements TextRepresentable, Iterable<Object> {
     final Text text;
     final String openArg;
     final String closeArg;
+    @Nullable private volatile Compiled compiled;
 
     TextTemplate(String openArg, String closeArg, Object[] elements) {
         this.openArg = openArg;
@@ -184,38 +187,24 @@ public Text.Builder apply() {
      * @throws TextTemplateArgumentException if required parameters are missing
      */
     public Text.Builder apply(Map<String, ?> params) {
-        return apply(null, params);
+        return compile().apply(params);
     }
 
-    private Text.Builder apply(@Nullable Text.Builder result, Map<String, ?> params) {
-        checkNotNull(params, "params");
-        for (Object element : this.elements) {
-            result = apply(element, result, params);
-        }
-        return Optional.ofNullable(result).orElse(Text.builder());
-    }
-
-    @Nullable
-    private Text.Builder apply(Object element, @Nullable Text.Builder builder, Map<String, ?> params) {
-        // Note: The builder is initialized as null to avoid unnecessary Text nesting
-        if (element instanceof Arg) {
-            Arg arg = (Arg) element;
-            Object param = params.get(arg.name);
-            if (param == null) {
-                arg.checkOptional();
-                if (arg.defaultValue != null) {
-                    builder = applyArg(arg.defaultValue, arg, builder);
-                }
-            } else {
-                builder = applyArg(param, arg, builder);
-            }
-        } else {
-            builder = apply(element, builder);
+    /**
+     * Returns the compiled form of this template, which applies parameters
+     * by slot rather than by name.
+     *
+     * @return The compiled template
+     */
+    public Compiled compile() {
+        Compiled compiled = this.compiled;
+        if (compiled == null) {
+            this.compiled = compiled = new Compiled(this);
         }
-        return builder;
+        return compiled;
     }
 
-    private Text.Builder apply(Object element, @Nullable Text.Builder builder) {
+    static Text.Builder apply(Object element, @Nullable Text.Builder builder) {
         if (element instanceof Text) {
             Text text = (Text) element;
             if (builder == null) {
@@ -239,7 +228,7 @@ private Text.Builder apply(Object element, @Nullable Text.Builder builder) {
         return builder;
     }
 
-    private Text.Builder applyArg(Object param, Arg arg, @Nullable Text.Builder builder) {
+    static Text.Builder applyArg(Object param, Arg arg, @Nullable Text.Builder builder) {
         if (builder == null) {
             builder = Text.builder();
         }
@@ -606,4 +595,229 @@ public String toString() {
         }
     }
 
+    /**
+     * The compiled form of a {@link TextTemplate}, in which arguments are
+     * resolved to slots and consecutive constant texts are prepared once.
+     *
+     * <p>Parameters are supplied by slot, in the order given by
+     * {@link #getSlotNames()}, which is the order in which the arguments first
+     * appear in the template. Applying a compiled template gives the same
+     * result as applying the template itself.</p>
+     */
+    public static final class Compiled {
+
+        private final TextTemplate template;
+        private final ImmutableList<String> slotNames;
+        private final ImmutableMap<String, Integer> slots;
+        /**
+         * Either a {@code Text[]} of constant texts, a {@link Slot}, or any
+         * other element of the template.
+         */
+        private final Object[] operations;
+
+        Compiled(TextTemplate template) {
+            this.template = template;
+            final Map<String, Integer> slots = new HashMap<>();
+            final ImmutableList.Builder<String> slotNames = ImmutableList.builder();
+            final List<Object> operations = new ArrayList<>();
+            final List<Text> constants = new ArrayList<>();
+            for (Object element : template.elements) {
+                if (element instanceof Text || element instanceof String) {
+                    constants.add(element instanceof Text ? (Text) element : Text.of((String) element));
+                    continue;
+                }
+                if (!constants.isEmpty()) {
+                    operations.add(constants.toArray(new Text[constants.size()]));
+                    constants.clear();
+                }
+                if (element instanceof Arg) {
+                    Arg arg = (Arg) element;
+                    Integer slot = slots.get(arg.name);
+                    if (slot == null) {
+                        slot = slots.size();
+                        slots.put(arg.name, slot);
+                        slotNames.add(arg.name);
+                    }
+                    operations.add(new Slot(slot, arg));
+                } else {
+                    operations.add(element);
+                }
+            }
+            if (!constants.isEmpty()) {
+                operations.add(constants.toArray(new Text[constants.size()]));
+            }
+            this.operations = operations.toArray();
+            this.slotNames = slotNames.build();
+            this.slots = ImmutableMap.copyOf(slots);
+        }
+
+        /**
+         * Returns the template this was compiled from.
+         *
+         * @return The template
+         */
+        public TextTemplate getTemplate() {
+            return this.template;
+        }
+
+        /**
+         * Returns the names of the arguments of the template, in slot order.
+         *
+         * @return The argument names
+         */
+        public List<String> getSlotNames() {
+            return this.slotNames;
+        }
+
+        /**
+         * Returns the slot of the argument with the specified name.
+         *
+         * @param name The name of the argument
+         * @return The slot of the argument, if present
+         */
+        public Optional<Integer> getSlot(String name) {
+            return Optional.ofNullable(this.slots.get(name));
+        }
+
+        /**
+         * Applies the specified parameters to the template and returns the
+         * result in a {@link Text.Builder}.
+         *
+         * @param params Parameters to apply
+         * @return Text builder containing result
+         * @throws TextTemplateArgumentException if required parameters are
+         *     missing
+         * @see TextTemplate#apply(Map)
+         */
+        public Text.Builder apply(Map<String, ?> params) {
+            checkNotNull(params, "params");
+            final Object[] slots = new Object[this.slotNames.size()];
+            for (int i = 0; i < slots.length; i++) {
+                slots[i] = params.get(this.slotNames.get(i));
+            }
+            return apply(slots);
+        }
+
+        /**
+         * Applies the specified parameters to the template and returns the
+         * result in a {@link Text.Builder}. Missing or {@code null}
+         * parameters are treated like absent parameters.
+         *
+         * @param slots Parameters to apply, by slot
+         * @return Text builder containing result
+         * @throws TextTemplateArgumentException if required parameters are
+         *     missing
+         */
+        public Text.Builder apply(Object... slots) {
+            checkNotNull(slots, "slots");
+            checkArgument(slots.length <= this.slotNames.size(), "too many slots");
+            // Note: The builder is initialized as null to avoid unnecessary Text nesting
+            Text.Builder builder = null;
+            for (Object operation : this.operations) {
+                if (operation instanceof Text[]) {
+                    final Text[] constants = (Text[]) operation;
+                    int i = 0;
+                    if (builder == null) {
+                        builder = constants[i++].toBuilder();
+                    }
+                    for (; i < constants.length; i++) {
+                        builder.append(constants[i]);
+                    }
+                } else if (operation instanceof Slot) {
+                    final Slot slot = (Slot) operation;
+                    final Object param = slot.getParam(slots);
+                    if (param != null) {
+                        builder = applyArg(param, slot.arg, builder);
+                    }
+                } else {
+                    builder = TextTemplate.apply(operation, builder);
+                }
+            }
+            return builder == null ? Text.builder() : builder;
+        }
+
+        /**
+         * Serializes the result of applying the specified parameters to the
+         * template, appending it to the provided output.
+         *
+         * <p>Plain text is written directly, reusing the plain representation
+         * of the constant texts of the template, without building the result
+         * {@link Text}. Other serializers are handed the built text.</p>
+         *
+         * @param serializer The serializer to use
+         * @param out The output to append to
+         * @param slots Parameters to apply, by slot
+         * @throws TextTemplateArgumentException if required parameters are
+         *     missing
+         */
+        public void serialize(TextSerializer serializer, StringBuilder out, Object... slots) {
+            checkNotNull(serializer, "serializer");
+            checkNotNull(out, "out");
+            if (serializer != TextSerializers.PLAIN) {
+                out.append(apply(slots).build().serialize(serializer));
+                return;
+            }
+            checkNotNull(slots, "slots");
+            checkArgument(slots.length <= this.slotNames.size(), "too many slots");
+            for (Object operation : this.operations) {
+                if (operation instanceof Text[]) {
+                    for (Text text : (Text[]) operation) {
+                        out.append(text.toPlain());
+                    }
+                } else if (operation instanceof Slot) {
+                    final Object param = ((Slot) operation).getParam(slots);
+                    if (param != null) {
+                        appendPlain(param, out);
+                    }
+                } else {
+                    appendPlain(operation, out);
+                }
+            }
+        }
+
+        private static void appendPlain(Object element, StringBuilder out) {
+            if (element instanceof Text) {
+                out.append(((Text) element).toPlain());
+            } else if (element instanceof TextElement) {
+                // Formats and actions have no content, others may append any
+                final Text.Builder builder = Text.builder();
+                ((TextElement) element).applyTo(builder);
+                out.append(builder.build().toPlain());
+            } else {
+                out.append(element.toString());
+            }
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("template", this.template)
+                    .add("slotNames", this.slotNames)
+                    .toString();
+        }
+
+    }
+
+    private static final class Slot {
+
+        final int index;
+        final Arg arg;
+
+        Slot(int index, Arg arg) {
+            this.index = index;
+            this.arg = arg;
+        }
+
+        @Nullable
+        Object getParam(Object[] slots) {
+            final Object param = this.index < slots.length ? slots[this.index] : null;
+            if (param != null) {
+                return param;
+            }
+            this.arg.checkOptional();
+            return this.arg.defaultValue;
+        }
+
+    }
+
 }
@@ -0,0 +1,68 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+/**
+ * Visits the texts in a tree of {@link Text}s, see
+ * {@link Text#accept(TextVisitor)}.
+ *
+ * <p>For each text, {@link #enter(Text)} is called first. If the text is
+ * entered, {@link #content(Text)} is called for its own content, followed by
+ * the visit of each of its children in order, and finally
+ * {@link #leave(Text)}.</p>
+ */
+public interface TextVisitor {
+
+    /**
+     * Called when a text is reached, before its content and its children.
+     *
+     * @param text The text that is reached
+     * @return Whether the content and the children of the text should be
+     *     visited, if {@code false} the text is not left either
+     */
+    default boolean enter(Text text) {
+        return true;
+    }
+
+    /**
+     * Called for the content of an entered text, which depends on the type of
+     * the text, e.g. the {@link LiteralText#getContent() content} of a
+     * {@link LiteralText}. This is called before the children of the text
+     * are visited.
+     *
+     * @param text The text whose content to visit
+     */
+    void content(Text text);
+
+    /**
+     * Called after the content and all children of an entered text have been
+     * visited.
+     *
+     * @param text The text that is left
+     */
+    default void leave(Text text) {
+    }
+
+}
@@ -103,6 +103,13 @@ public Builder toBuilder() {
         return new Builder(this);
     }
 
+    @Override
+    boolean isContentImmutable() {
+        // The translation depends on the locale of the serializer, and may
+        // change when its resources are reloaded
+        return false;
+    }
+
     @Override
     public boolean equals(@Nullable Object o) {
         if (this == o) {
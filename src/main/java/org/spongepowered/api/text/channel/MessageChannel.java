@@ -26,6 +26,7 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.text.Text;
@@ -38,7 +39,10 @@
 import org.spongepowered.api.text.chat.ChatTypes;
 import org.spongepowered.api.world.World;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Optional;
 
 import javax.annotation.Nullable;
@@ -184,6 +188,11 @@ default void send(@Nullable Object sender, Text original) {
      * Send a message to this channel, transforming and sending it to the
      * members.
      *
+     * <p>The members are sent their message group by group, see
+     * {@link #transformMessages(Object, Text, ChatType)}. Members therefore
+     * receive their messages in the order of the groups, which is not
+     * necessarily the order of {@link #getMembers()}.</p>
+     *
      * @param sender The sender of the message
      * @param original The original message to send
      * @param type The type of message
@@ -191,13 +200,56 @@ default void send(@Nullable Object sender, Text original) {
     default void send(@Nullable Object sender, Text original, ChatType type) {
         checkNotNull(original, "original text");
         checkNotNull(type, "type");
+        for (MessageGroup group : this.transformMessages(sender, original, type)) {
+            final Text message = group.getMessage();
+            for (MessageReceiver member : group.getReceivers()) {
+                if (member instanceof ChatTypeMessageReceiver) {
+                    ((ChatTypeMessageReceiver) member).sendMessage(type, message);
+                } else {
+                    member.sendMessage(message);
+                }
+            }
+        }
+    }
+
+    /**
+     * Transforms a message for all members of this channel, grouping the
+     * members that are sent the same message.
+     *
+     * <p>Members are grouped by the identity of their transformed message.
+     * All members for which {@link #transformMessage} returns the original
+     * message share one group, so the message only has to be serialized once
+     * for them (see
+     * {@link Text#serialize(org.spongepowered.api.text.serializer.TextSerializer)}).
+     * Implementations of {@link #transformMessage} should therefore return
+     * the original message when they do not change it. Members that are not
+     * sent a message are left out.</p>
+     *
+     * @param sender The sender of the message
+     * @param original The original message to send
+     * @param type The type of message
+     * @return The groups of members sent the same message, in the order of
+     *     the first member of each group
+     */
+    default List<MessageGroup> transformMessages(@Nullable Object sender, Text original, ChatType type) {
+        checkNotNull(original, "original text");
+        checkNotNull(type, "type");
+        final IdentityHashMap<Text, List<MessageReceiver>> receivers = new IdentityHashMap<>();
+        final List<Text> messages = new ArrayList<>();
         for (MessageReceiver member : this.getMembers()) {
-            if (member instanceof ChatTypeMessageReceiver) {
-                this.transformMessage(sender, member, original, type).ifPresent(text -> ((ChatTypeMessageReceiver) member).sendMessage(type, text));
-            } else {
-                this.transformMessage(sender, member, original, type).ifPresent(member::sendMessage);
+            final Optional<Text> message = this.transformMessage(sender, member, original, type);
+            if (message.isPresent()) {
+                receivers.computeIfAbsent(message.get(), text -> {
+                    messages.add(text);
+                    return new ArrayList<>();
+                }).add(member);
             }
         }
+        final ImmutableList.Builder<MessageGroup> groups = ImmutableList.builder();
+        for (Text message : messages) {
+            groups.add(new MessageGroup(message, receivers.get(message)));
+        }
+        return groups.build();
     }
 
     /**
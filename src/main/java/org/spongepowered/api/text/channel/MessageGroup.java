@@ -0,0 +1,85 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.channel;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.text.Text;
+
+import java.util.List;
+
+/**
+ * A message transformed by a {@link MessageChannel}, together with the
+ * members of the channel that are sent this message.
+ *
+ * @see MessageChannel#transformMessages(Object, Text,
+ *     org.spongepowered.api.text.chat.ChatType)
+ */
+public final class MessageGroup {
+
+    private final Text message;
+    private final ImmutableList<MessageReceiver> receivers;
+
+    /**
+     * Creates a new {@link MessageGroup}.
+     *
+     * @param message The message to send
+     * @param receivers The receivers to send the message to
+     */
+    public MessageGroup(Text message, List<? extends MessageReceiver> receivers) {
+        this.message = checkNotNull(message, "message");
+        this.receivers = ImmutableList.copyOf(checkNotNull(receivers, "receivers"));
+    }
+
+    /**
+     * Gets the message sent to the receivers of this group.
+     *
+     * @return The message
+     */
+    public Text getMessage() {
+        return this.message;
+    }
+
+    /**
+     * Gets the receivers of the message, in the order of the members of
+     * the channel.
+     *
+     * @return The receivers
+     */
+    public List<MessageReceiver> getReceivers() {
+        return this.receivers;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("message", this.message)
+                .add("receivers", this.receivers)
+                .toString();
+    }
+
+}
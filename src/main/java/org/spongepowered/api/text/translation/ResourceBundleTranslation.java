@@ -26,9 +26,15 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -48,9 +54,42 @@
  * <br />&nbsp; &nbsp; &nbsp; &nbsp; return Texts.of(new
  * ResourceBundleTranslation(key, LOOKUP_FUNC), args);<br />&nbsp; &nbsp; }
  * <br />}</code></blockquote>
+ *
+ * <p>The translated format strings are cached for each bundle function,
+ * locale and key, and parsed once to be formatted directly. A helper that
+ * reloads its resource bundles should call {@link #invalidate(Function)} with
+ * its bundle function afterwards.</p>
  */
 public class ResourceBundleTranslation implements Translation {
 
+    private static final LoadingCache<Function<Locale, ResourceBundle>, Map<Locale, Map<String, TranslationFormat>>> formats =
+            CacheBuilder.newBuilder()
+                    .weakKeys()
+                    .build(new CacheLoader<Function<Locale, ResourceBundle>, Map<Locale, Map<String, TranslationFormat>>>() {
+                        @Override
+                        public Map<Locale, Map<String, TranslationFormat>> load(Function<Locale, ResourceBundle> key) {
+                            return new ConcurrentHashMap<>();
+                        }
+                    });
+
+    /**
+     * Discards the cached translations of all keys looked up through the
+     * provided bundle function, for example after its resource bundles have
+     * been reloaded.
+     *
+     * @param bundleFunction The bundle function
+     */
+    public static void invalidate(Function<Locale, ResourceBundle> bundleFunction) {
+        formats.invalidate(checkNotNull(bundleFunction, "bundleFunction"));
+    }
+
+    /**
+     * Discards all cached translations.
+     */
+    public static void invalidateAll() {
+        formats.invalidateAll();
+    }
+
     private final String key;
     private final Function<Locale, ResourceBundle> bundleFunction;
 
@@ -73,7 +112,22 @@ public String getId() {
 
     @Override
     public String get(Locale locale) {
+        return getFormat(locale).getFormat();
+    }
+
+    @Override
+    public String get(Locale locale, Object... args) {
+        return getFormat(locale).format(locale, args);
+    }
+
+    private TranslationFormat getFormat(Locale locale) {
         checkNotNull(locale, "locale");
+        return formats.getUnchecked(this.bundleFunction)
+                .computeIfAbsent(locale, l -> new ConcurrentHashMap<>())
+                .computeIfAbsent(this.key, key -> new TranslationFormat(lookup(locale)));
+    }
+
+    private String lookup(Locale locale) {
         try {
             ResourceBundle bundle = this.bundleFunction.apply(locale);
             return bundle == null ? this.key : bundle.getString(this.key);
@@ -81,9 +135,4 @@ public String get(Locale locale) {
             return this.key;
         }
     }
-
-    @Override
-    public String get(Locale locale, Object... args) {
-        return String.format(locale, get(locale), args);
-    }
 }
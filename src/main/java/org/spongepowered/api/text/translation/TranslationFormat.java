@@ -0,0 +1,142 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.translation;
+
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.List;
+import java.util.Locale;
+
+import javax.annotation.Nullable;
+
+/**
+ * A translation format string that is parsed once to be formatted many
+ * times.
+ *
+ * <p>Formats that only consist of plain {@code %s} conversions (optionally
+ * with an explicit argument index), {@code %%} and {@code %n} are formatted
+ * directly. All other formats, as well as arguments that are
+ * {@link Formattable}, are handed to
+ * {@link String#format(Locale, String, Object...)}, so the result is always
+ * the same as formatting the string itself.</p>
+ */
+final class TranslationFormat {
+
+    private final String format;
+    /**
+     * The literal text before each argument, followed by the trailing text,
+     * or {@code null} if the format is not simple.
+     */
+    @Nullable private final String[] literals;
+    @Nullable private final int[] arguments;
+
+    TranslationFormat(String format) {
+        this.format = format;
+        final List<String> literals = new ArrayList<>();
+        final List<Integer> arguments = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        int ordinaryIndex = 0;
+        boolean simple = true;
+        for (int i = 0; i < format.length() && simple; i++) {
+            final char c = format.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                continue;
+            }
+            int j = i + 1;
+            while (j < format.length() && Character.isDigit(format.charAt(j))) {
+                j++;
+            }
+            int index = -1;
+            if (j > i + 1) {
+                // Only an explicit argument index is supported, not a width
+                if (j >= format.length() - 1 || format.charAt(j) != '$' || format.charAt(i + 1) == '0' || j - i > 9) {
+                    simple = false;
+                    break;
+                }
+                index = Integer.parseInt(format.substring(i + 1, j)) - 1;
+                j++;
+            }
+            final char conversion = j < format.length() ? format.charAt(j) : 0;
+            if (conversion == 's') {
+                literals.add(literal.toString());
+                literal.setLength(0);
+                arguments.add(index == -1 ? ordinaryIndex++ : index);
+            } else if (conversion == '%' && index == -1) {
+                literal.append('%');
+            } else if (conversion == 'n' && index == -1) {
+                literal.append(System.lineSeparator());
+            } else {
+                simple = false;
+            }
+            i = j;
+        }
+        if (simple) {
+            literals.add(literal.toString());
+            this.literals = literals.toArray(new String[literals.size()]);
+            this.arguments = arguments.stream().mapToInt(Integer::intValue).toArray();
+        } else {
+            this.literals = null;
+            this.arguments = null;
+        }
+    }
+
+    /**
+     * Gets the unformatted format string.
+     *
+     * @return The format string
+     */
+    String getFormat() {
+        return this.format;
+    }
+
+    /**
+     * Formats this format with the specified arguments.
+     *
+     * @param locale The locale to format for
+     * @param args The arguments
+     * @return The formatted string
+     */
+    String format(Locale locale, Object... args) {
+        if (this.literals == null || this.arguments == null) {
+            return String.format(locale, this.format, args);
+        }
+        if (this.arguments.length == 0) {
+            // Rendered once when parsed
+            return this.literals[0];
+        }
+        final StringBuilder builder = new StringBuilder(this.format.length() + 16 * this.arguments.length);
+        for (int i = 0; i < this.arguments.length; i++) {
+            final int index = this.arguments[i];
+            if (index >= args.length || args[index] instanceof Formattable) {
+                // Let the formatter report the missing argument
+                return String.format(locale, this.format, args);
+            }
+            builder.append(this.literals[i]).append(args[index]);
+        }
+        return builder.append(this.literals[this.arguments.length]).toString();
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of {@link Duration}s, for example of the time taken by each
+ * run of a repeated operation.
+ *
+ * <p>Durations are counted in buckets with a relative width of at most 25%:
+ * each power of two nanoseconds is split into four buckets. Percentiles are
+ * therefore approximations, while the count, the total and the maximum are
+ * exact.</p>
+ *
+ * <p>Durations may be recorded from several threads at once. Use
+ * {@link #copy()} to get a histogram that isn't changed by later
+ * recordings.</p>
+ */
+public final class DurationHistogram {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = bucket(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a duration.
+     *
+     * @param duration The duration
+     * @throws IllegalArgumentException If the duration is negative
+     */
+    public void record(Duration duration) {
+        checkNotNull(duration, "duration");
+        record(duration.toNanos());
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos The duration in nanoseconds
+     * @throws IllegalArgumentException If the duration is negative
+     */
+    public void record(long nanos) {
+        checkArgument(nanos >= 0, "duration cannot be negative: %s", nanos);
+        this.buckets.incrementAndGet(bucket(nanos));
+        this.count.increment();
+        this.total.add(nanos);
+        this.max.accumulate(nanos);
+    }
+
+    /**
+     * Gets the number of recorded durations.
+     *
+     * @return The number of recorded durations
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * Gets the sum of the recorded durations.
+     *
+     * @return The total duration
+     */
+    public Duration getTotal() {
+        return Duration.ofNanos(this.total.sum());
+    }
+
+    /**
+     * Gets the mean of the recorded durations.
+     *
+     * @return The mean duration, or {@link Duration#ZERO} if nothing was
+     *     recorded
+     */
+    public Duration getMean() {
+        final long count = getCount();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(this.total.sum() / count);
+    }
+
+    /**
+     * Gets the longest recorded duration.
+     *
+     * @return The maximum duration, or {@link Duration#ZERO} if nothing was
+     *     recorded
+     */
+    public Duration getMax() {
+        return Duration.ofNanos(this.max.get());
+    }
+
+    /**
+     * Gets an approximation of the duration below which the given
+     * percentage of the recorded durations falls. The result is at most 25%
+     * longer than the actual percentile, and never exceeds
+     * {@link #getMax()}.
+     *
+     * @param percentile The percentile, in the range [0, 100]
+     * @return The duration at the percentile, or {@link Duration#ZERO} if
+     *     nothing was recorded
+     */
+    public Duration getPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "percentile must be in the range [0, 100]: %s", percentile);
+        long remaining = (long) Math.ceil(getCount() * percentile / 100);
+        if (remaining == 0) {
+            return Duration.ZERO;
+        }
+        final long max = this.max.get();
+        for (int i = 0; i < BUCKETS; i++) {
+            remaining -= this.buckets.get(i);
+            if (remaining <= 0) {
+                final long upper = i + 1 < BUCKETS ? lowerBound(i + 1) - 1 : Long.MAX_VALUE;
+                return Duration.ofNanos(Math.min(upper, max));
+            }
+        }
+        // only reached if durations were recorded concurrently
+        return Duration.ofNanos(max);
+    }
+
+    /**
+     * Creates a copy of this histogram, which isn't affected by durations
+     * recorded later on.
+     *
+     * @return The copy
+     */
+    public DurationHistogram copy() {
+        final DurationHistogram copy = new DurationHistogram();
+        copy.merge(this);
+        return copy;
+    }
+
+    /**
+     * Adds all the durations recorded in the given histogram to this one.
+     *
+     * @param histogram The histogram to add
+     */
+    public void merge(DurationHistogram histogram) {
+        checkNotNull(histogram, "histogram");
+        for (int i = 0; i < BUCKETS; i++) {
+            final long count = histogram.buckets.get(i);
+            if (count != 0) {
+                this.buckets.addAndGet(i, count);
+            }
+        }
+        this.count.add(histogram.count.sum());
+        this.total.add(histogram.total.sum());
+        this.max.accumulate(histogram.max.get());
+    }
+
+    static int bucket(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        final int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowerBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        final int subBucket = bucket % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("count", getCount())
+                .add("mean", getMean())
+                .add("p50", getPercentile(50))
+                .add("p99", getPercentile(99))
+                .add("max", getMax())
+                .toString();
+    }
+
+}
@@ -178,6 +178,20 @@ public static <T> CompletableFuture<T> failableFuture(Callable<T> call) {
         return ret;
     }
 
+    /**
+     * Create a {@link CompletableFuture} that has already been completed
+     * exceptionally with the provided exception.
+     *
+     * @param t The exception to complete the future with
+     * @param <T> The type of value of the future
+     * @return The failed future
+     */
+    public static <T> CompletableFuture<T> failedFuture(Throwable t) {
+        CompletableFuture<T> ret = new CompletableFuture<>();
+        ret.completeExceptionally(t);
+        return ret;
+    }
+
     /**
      * Execute a callable on the provided executor, capturing the result or any exceptions that may be thrown into a {@link
      * CompletableFuture}.
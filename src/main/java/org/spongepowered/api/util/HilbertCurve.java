@@ -0,0 +1,124 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.flowpowered.math.vector.Vector2i;
+
+/**
+ * Maps between the points of a square grid and their position along a
+ * Hilbert curve filling it.
+ *
+ * <p>Consecutive positions along the curve are always adjacent points, and
+ * every aligned square of the grid with a power of two as size is covered
+ * by a single run of the curve. Visiting points in this order therefore
+ * keeps the points that are visited close together in time also close
+ * together in space, for example when visiting the chunks of a region
+ * file.</p>
+ */
+public final class HilbertCurve {
+
+    /**
+     * The maximum order of a curve.
+     */
+    public static final int MAX_ORDER = 15;
+
+    private HilbertCurve() {
+    }
+
+    /**
+     * Gets the point at the given position along the curve filling a grid of
+     * {@code 2^order} by {@code 2^order} points.
+     *
+     * @param order The order of the curve, in the range [0,
+     *     {@link #MAX_ORDER}]
+     * @param index The position along the curve, in the range [0,
+     *     {@code 4^order})
+     * @return The point, with both coordinates in the range [0,
+     *     {@code 2^order})
+     */
+    public static Vector2i getPoint(int order, int index) {
+        final int size = size(order);
+        checkArgument(index >= 0 && index < size * size, "index must be in the range [0, %s): %s", size * size, index);
+        int x = 0;
+        int y = 0;
+        for (int s = 1; s < size; s <<= 1) {
+            final int rx = 1 & index >>> 1;
+            final int ry = 1 & (index ^ rx);
+            if (ry == 0) {
+                if (rx == 1) {
+                    x = s - 1 - x;
+                    y = s - 1 - y;
+                }
+                final int t = x;
+                x = y;
+                y = t;
+            }
+            x += s * rx;
+            y += s * ry;
+            index >>>= 2;
+        }
+        return new Vector2i(x, y);
+    }
+
+    /**
+     * Gets the position of the given point along the curve filling a grid of
+     * {@code 2^order} by {@code 2^order} points.
+     *
+     * @param order The order of the curve, in the range [0,
+     *     {@link #MAX_ORDER}]
+     * @param x The x coordinate, in the range [0, {@code 2^order})
+     * @param y The y coordinate, in the range [0, {@code 2^order})
+     * @return The position along the curve, in the range [0,
+     *     {@code 4^order})
+     */
+    public static int getIndex(int order, int x, int y) {
+        final int size = size(order);
+        checkArgument(x >= 0 && x < size && y >= 0 && y < size, "point must be in the range [0, %s): (%s, %s)", size, x, y);
+        int index = 0;
+        for (int s = size >>> 1; s > 0; s >>>= 1) {
+            final int rx = (x & s) != 0 ? 1 : 0;
+            final int ry = (y & s) != 0 ? 1 : 0;
+            index += s * s * (3 * rx ^ ry);
+            if (ry == 0) {
+                if (rx == 1) {
+                    x = size - 1 - x;
+                    y = size - 1 - y;
+                }
+                final int t = x;
+                x = y;
+                y = t;
+            }
+        }
+        return index;
+    }
+
+    private static int size(int order) {
+        checkArgument(order >= 0 && order <= MAX_ORDER, "order must be in the range [0, %s]: %s", MAX_ORDER, order);
+        return 1 << order;
+    }
+
+}
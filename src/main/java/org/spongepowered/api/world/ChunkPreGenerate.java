@@ -29,10 +29,14 @@
 import org.spongepowered.api.Game;
 import org.spongepowered.api.event.world.ChunkPreGenerationEvent;
 import org.spongepowered.api.scheduler.Scheduler;
+import org.spongepowered.api.util.DurationHistogram;
+import org.spongepowered.api.util.HilbertCurve;
 import org.spongepowered.api.util.ResettableBuilder;
+import org.spongepowered.api.world.gen.GenerationStage;
 import org.spongepowered.api.world.storage.WorldProperties;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
@@ -81,6 +85,23 @@ public interface ChunkPreGenerate {
      */
     Duration getTotalTime();
 
+    /**
+     * Gets the time each chunk has taken (so far) in each of the
+     * {@link GenerationStage}s. The histograms are copies that are not
+     * updated by the rest of the generation.
+     *
+     * @return The timings of each generation stage
+     */
+    Map<GenerationStage, DurationHistogram> getStageTimings();
+
+    /**
+     * Gets the time it has taken (so far) to save each generated chunk. The
+     * histogram is a copy that is not updated by the rest of the generation.
+     *
+     * @return The timings of saving the chunks
+     */
+    DurationHistogram getSaveTimings();
+
     /**
      * Gets whether the task for this world has been cancelled
      * (or completed).
@@ -99,10 +120,16 @@ public interface ChunkPreGenerate {
      *
      * <p>The task is synchronous and repeating with a given interval and either
      * a target number of chunks per ticks and/or a percentage of the tick
-     * time.</p>
+     * time. Only the {@link GenerationStage#DECORATION decoration} of the
+     * chunks counts against these limits: the asynchronous
+     * {@link GenerationStage generation stages} are run ahead by worker
+     * threads, see {@link #parallelism(int)}.</p>
      *
-     * <p>Chunk order is not defined but a proper implementation should use and
-     * "inside-out" strategy for better results if the task is cancelled.</p>
+     * <p>Chunks are generated region file by region file, using an
+     * "inside-out" strategy for the regions for better results if the task is
+     * cancelled. The chunks within a region are visited along a
+     * {@link HilbertCurve}, so that neighbouring chunks are decorated and
+     * saved close together and each region file is written in one go.</p>
      *
      * @see WorldBorder#newChunkPreGenerate(World)
      * @see World#newChunkPreGenerate(Vector3d, double)
@@ -176,6 +203,48 @@ interface Builder extends ResettableBuilder<ChunkPreGenerate, Builder> {
          */
         Builder tickPercentLimit(float tickPercent);
 
+        /**
+         * Enables the adaptive mode, which adjusts the number of chunks
+         * generated per run so that the server ticks keep taking about the
+         * given time.
+         *
+         * <p>The time taken to decorate and save each chunk is measured, and
+         * each run generates as many chunks as fit in what remains of the
+         * target tick time after the rest of the tick. The number of chunks
+         * is still limited by {@link #chunksPerTick(int)} when it is set,
+         * while {@link #tickPercentLimit(float)} is not used.</p>
+         *
+         * <p>Use {@link Duration#ZERO} to disable.</p>
+         *
+         * <p>Optional.</p>
+         *
+         * <p>Default is disabled.</p>
+         *
+         * @param targetTickTime The tick time to aim for, for example 45
+         *     milliseconds to leave some headroom below the 50 milliseconds
+         *     of a tick
+         * @return This for chained calls
+         */
+        Builder adaptive(Duration targetTickTime);
+
+        /**
+         * Sets the number of worker threads that run the
+         * {@link GenerationStage#isAsync() asynchronous} generation stages of
+         * the chunks ahead of their decoration on the main thread.
+         *
+         * <p>Use 0 to run all the stages on the main thread. Implementations
+         * that can't generate chunks asynchronously ignore this value.</p>
+         *
+         * <p>Optional.</p>
+         *
+         * <p>Default is one less than the number of available processors, but
+         * at least 1.</p>
+         *
+         * @param workers The number of worker threads
+         * @return This for chained calls
+         */
+        Builder parallelism(int workers);
+
         /**
          * Adds a {@link ChunkPreGenerationEvent} listener callback that will be
          * called for this, and only this, pre-generation routine. Note that
@@ -0,0 +1,170 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.ImmutableMap;
+import org.spongepowered.api.data.DataTransactionResult;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.util.DiscreteTransform3;
+import org.spongepowered.api.world.BlockChangeFlag;
+
+import java.util.Map;
+
+/**
+ * The default implementation of
+ * {@link Extent#setBlocks(BlockVolume, DiscreteTransform3, BlockChangeFlag, Cause)},
+ * which copies the blocks one chunk section at a time.
+ */
+final class BlockVolumeCopy {
+
+    /**
+     * The height of a chunk section.
+     */
+    static final int SECTION_HEIGHT = 16;
+
+    private static final int SUCCEEDED = 1;
+    private static final int FAILED = 2;
+
+    /**
+     * Copies the blocks of the volume into the extent, using the chunk
+     * layout of the server.
+     *
+     * @param extent The extent to copy the blocks into
+     * @param volume The volume to copy the blocks from
+     * @param transform The transform from positions in the volume to
+     *     positions in the extent
+     * @param flag The various change flags controlling some interactions
+     * @param cause The cause to use
+     * @return The results of the changes, keyed by chunk coordinates
+     */
+    static Map<Vector3i, DataTransactionResult> copy(Extent extent, BlockVolume volume, DiscreteTransform3 transform, BlockChangeFlag flag,
+            Cause cause) {
+        return copy(extent, volume, transform, flag, cause, ExtentUtil.getChunkSize());
+    }
+
+    /**
+     * Copies the blocks of the volume into the extent, using chunks of the
+     * given size.
+     *
+     * @param extent The extent to copy the blocks into
+     * @param volume The volume to copy the blocks from
+     * @param transform The transform from positions in the volume to
+     *     positions in the extent
+     * @param flag The various change flags controlling some interactions
+     * @param cause The cause to use
+     * @param chunkSize The size of a chunk
+     * @return The results of the changes, keyed by chunk coordinates
+     */
+    static Map<Vector3i, DataTransactionResult> copy(Extent extent, BlockVolume volume, DiscreteTransform3 transform, BlockChangeFlag flag,
+            Cause cause, Vector3i chunkSize) {
+        // Find the bounds of the transformed volume, clamped to the extent
+        final Vector3i volumeMin = volume.getBlockMin();
+        final Vector3i volumeMax = volume.getBlockMax();
+        Vector3i min = null;
+        Vector3i max = null;
+        for (int i = 0; i < 8; i++) {
+            final Vector3i corner = transform.transform((i & 1) == 0 ? volumeMin.getX() : volumeMax.getX(),
+                    (i & 2) == 0 ? volumeMin.getY() : volumeMax.getY(), (i & 4) == 0 ? volumeMin.getZ() : volumeMax.getZ());
+            min = min == null ? corner : min.min(corner);
+            max = max == null ? corner : max.max(corner);
+        }
+        min = min.max(extent.getBlockMin());
+        max = max.min(extent.getBlockMax());
+        if (min.getX() > max.getX() || min.getY() > max.getY() || min.getZ() > max.getZ()) {
+            return ImmutableMap.of();
+        }
+        final DiscreteTransform3 inverse = transform.invert();
+        final Vector3i chunkMin = new Vector3i(Math.floorDiv(min.getX(), chunkSize.getX()), Math.floorDiv(min.getY(), chunkSize.getY()),
+                Math.floorDiv(min.getZ(), chunkSize.getZ()));
+        final Vector3i chunkMax = new Vector3i(Math.floorDiv(max.getX(), chunkSize.getX()), Math.floorDiv(max.getY(), chunkSize.getY()),
+                Math.floorDiv(max.getZ(), chunkSize.getZ()));
+        final ImmutableMap.Builder<Vector3i, DataTransactionResult> results = ImmutableMap.builder();
+        for (int cz = chunkMin.getZ(); cz <= chunkMax.getZ(); cz++) {
+            for (int cx = chunkMin.getX(); cx <= chunkMax.getX(); cx++) {
+                for (int cy = chunkMin.getY(); cy <= chunkMax.getY(); cy++) {
+                    final Vector3i chunk = new Vector3i(cx, cy, cz);
+                    final Vector3i blockMin = chunk.mul(chunkSize).max(min);
+                    final Vector3i blockMax = chunk.add(Vector3i.ONE).mul(chunkSize).sub(Vector3i.ONE).min(max);
+                    // Sections are aligned on absolute y coordinates, and
+                    // clamped to the chunk if it isn't aligned itself
+                    int state = 0;
+                    for (int sy = Math.floorDiv(blockMin.getY(), SECTION_HEIGHT); sy <= Math.floorDiv(blockMax.getY(), SECTION_HEIGHT); sy++) {
+                        final int minY = Math.max(blockMin.getY(), sy * SECTION_HEIGHT);
+                        final int maxY = Math.min(blockMax.getY(), sy * SECTION_HEIGHT + SECTION_HEIGHT - 1);
+                        state |= copySection(extent, volume, transform, inverse, flag, cause,
+                                new Vector3i(blockMin.getX(), minY, blockMin.getZ()), new Vector3i(blockMax.getX(), maxY, blockMax.getZ()));
+                    }
+                    if (state != 0) {
+                        results.put(chunk, toResult(state));
+                    }
+                }
+            }
+        }
+        return results.build();
+    }
+
+    /**
+     * Copies the blocks of one chunk section. Positions the transform doesn't
+     * map to, like the gaps left by scaling, are skipped.
+     *
+     * @return A combination of {@link #SUCCEEDED} and {@link #FAILED}
+     */
+    private static int copySection(Extent extent, BlockVolume volume, DiscreteTransform3 transform, DiscreteTransform3 inverse,
+            BlockChangeFlag flag, Cause cause, Vector3i min, Vector3i max) {
+        int state = 0;
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    final int vx = inverse.transformX(x, y, z);
+                    final int vy = inverse.transformY(x, y, z);
+                    final int vz = inverse.transformZ(x, y, z);
+                    if (!volume.containsBlock(vx, vy, vz) || transform.transformX(vx, vy, vz) != x
+                            || transform.transformY(vx, vy, vz) != y || transform.transformZ(vx, vy, vz) != z) {
+                        continue;
+                    }
+                    state |= extent.setBlock(x, y, z, volume.getBlock(vx, vy, vz), flag, cause) ? SUCCEEDED : FAILED;
+                }
+            }
+        }
+        return state;
+    }
+
+    private static DataTransactionResult toResult(int state) {
+        switch (state) {
+            case SUCCEEDED:
+                return DataTransactionResult.successNoData();
+            case FAILED:
+                return DataTransactionResult.failNoData();
+            default:
+                // Some of the changes failed, the chunk is partially changed
+                return DataTransactionResult.builder().result(DataTransactionResult.Type.ERROR).build();
+        }
+    }
+
+    private BlockVolumeCopy() {
+    }
+
+}
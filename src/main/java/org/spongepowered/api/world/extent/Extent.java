@@ -32,11 +32,13 @@
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.block.ScheduledBlockUpdate;
+import org.spongepowered.api.data.DataTransactionResult;
 import org.spongepowered.api.data.property.LocationBasePropertyHolder;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.util.AABB;
+import org.spongepowered.api.util.DiscreteTransform3;
 import org.spongepowered.api.util.Identifiable;
 import org.spongepowered.api.util.PositionOutOfBoundsException;
 import org.spongepowered.api.world.BlockChangeFlag;
@@ -46,6 +48,7 @@
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -212,6 +215,76 @@ default boolean setBlockType(int x, int y, int z, BlockType type, BlockChangeFla
         return setBlock(x, y, z, type.getDefaultState(), flag, cause);
     }
 
+    /**
+     * Copies all the blocks of the given volume into this extent, such that
+     * the minimum of the volume lines up with the given position. See
+     * {@link #setBlocks(BlockVolume, DiscreteTransform3, BlockChangeFlag, Cause)}.
+     *
+     * @param volume The volume to copy the blocks from
+     * @param position The position in this extent to copy the minimum of the
+     *     volume to
+     * @param flag The various change flags controlling some interactions
+     * @param cause The cause to use
+     * @return The results of the changes, keyed by chunk coordinates
+     */
+    default Map<Vector3i, DataTransactionResult> setBlocks(BlockVolume volume, Vector3i position, BlockChangeFlag flag, Cause cause) {
+        checkNotNull(volume, "volume");
+        checkNotNull(position, "position");
+        return setBlocks(volume, DiscreteTransform3.fromTranslation(position.sub(volume.getBlockMin())), flag, cause);
+    }
+
+    /**
+     * Copies all the blocks of the given volume into this extent. Each block
+     * of the volume is set at the position the transform maps its position
+     * to. Positions which are mapped outside of this extent are skipped.
+     *
+     * <p>The blocks are changed one chunk section at a time, a section being
+     * the part of a chunk within an aligned range of 16 y coordinates.
+     * Implementations should apply the changes of a section as a single
+     * batch, firing one
+     * {@link org.spongepowered.api.event.block.ChangeBlockEvent} for the
+     * section rather than one per block. With {@link BlockChangeFlag#ALL} the
+     * outcome must be the same as calling
+     * {@link #setBlock(int, int, int, BlockState, BlockChangeFlag, Cause)}
+     * for every block.</p>
+     *
+     * <p>The results are reported per chunk, and tell whether the blocks of
+     * the chunk were changed:</p>
+     *
+     * <ul>
+     *     <li>{@link DataTransactionResult.Type#SUCCESS} if all of the
+     *     changes in the chunk succeeded.</li>
+     *     <li>{@link DataTransactionResult.Type#FAILURE} if all of them
+     *     failed, so the chunk is unchanged.</li>
+     *     <li>{@link DataTransactionResult.Type#ERROR} if only some of them
+     *     failed, so the chunk is partially changed.</li>
+     * </ul>
+     *
+     * <p>The results carry no data, the blocks that failed to change are not
+     * reported individually. Chunks without any changes are not part of the
+     * result.</p>
+     *
+     * <p>The default implementation visits the sections of each chunk in
+     * order and calls
+     * {@link #setBlock(int, int, int, BlockState, BlockChangeFlag, Cause)}
+     * for every block.</p>
+     *
+     * @param volume The volume to copy the blocks from
+     * @param transform The transform from positions in the volume to
+     *     positions in this extent
+     * @param flag The various change flags controlling some interactions
+     * @param cause The cause to use
+     * @return The results of the changes, keyed by chunk coordinates
+     */
+    default Map<Vector3i, DataTransactionResult> setBlocks(BlockVolume volume, DiscreteTransform3 transform, BlockChangeFlag flag,
+            Cause cause) {
+        checkNotNull(volume, "volume");
+        checkNotNull(transform, "transform");
+        checkNotNull(flag, "flag");
+        checkNotNull(cause, "cause");
+        return BlockVolumeCopy.copy(this, volume, transform, flag, cause);
+    }
+
     /**
      * Gets a snapshot of this block at the current point in time.
      *
@@ -25,6 +25,8 @@
 package org.spongepowered.api.world.extent;
 
 import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.world.schematic.BlockPalette;
+import org.spongepowered.api.world.schematic.BlockPaletteTypes;
 
 /**
  * A factory for creating buffers to store extent data.
@@ -115,6 +117,63 @@ default MutableBlockVolume createThreadSafeBlockBuffer(int xSize, int ySize, int
         return createThreadSafeBlockBuffer(new Vector3i(xSize, ySize, zSize));
     }
 
+    /**
+     * Returns a new block buffer of the desired size. This buffer stores its
+     * blocks as packed indices into the given palette, see
+     * {@link StorageType#PALETTED}. The palette is owned by the buffer from
+     * now on, and will have new block states assigned to it as they are set.
+     *
+     * @param size The size of the buffer on x, y and z
+     * @param palette The palette to store the block states in
+     * @return A new block buffer
+     */
+    MutableBlockVolume createPalettedBlockBuffer(Vector3i size, BlockPalette palette);
+
+    /**
+     * Returns a new block buffer of the desired size. This buffer stores its
+     * blocks as packed indices into a new {@link BlockPaletteTypes#LOCAL}
+     * palette, see {@link StorageType#PALETTED}.
+     *
+     * @param size The size of the buffer on x, y and z
+     * @return A new block buffer
+     */
+    default MutableBlockVolume createPalettedBlockBuffer(Vector3i size) {
+        return createPalettedBlockBuffer(size, BlockPaletteTypes.LOCAL.create());
+    }
+
+    /**
+     * Returns a new block buffer of the desired size. This buffer stores its
+     * blocks as packed indices into a new {@link BlockPaletteTypes#LOCAL}
+     * palette, see {@link StorageType#PALETTED}.
+     *
+     * @param xSize The size of the buffer on x
+     * @param ySize The size of the buffer on y
+     * @param zSize The size of the buffer on z
+     * @return A new block buffer
+     */
+    default MutableBlockVolume createPalettedBlockBuffer(int xSize, int ySize, int zSize) {
+        return createPalettedBlockBuffer(new Vector3i(xSize, ySize, zSize));
+    }
+
+    /**
+     * Returns a new block buffer of the desired size, using the given storage
+     * type.
+     *
+     * @param size The size of the buffer on x, y and z
+     * @param type The type of storage used by the buffer
+     * @return A new block buffer
+     */
+    default MutableBlockVolume createBlockBuffer(Vector3i size, StorageType type) {
+        switch (type) {
+            case THREAD_SAFE:
+                return createThreadSafeBlockBuffer(size);
+            case PALETTED:
+                return createPalettedBlockBuffer(size);
+            default:
+                return createBlockBuffer(size);
+        }
+    }
+
     /**
      * Returns a new archetype volume of the desired size.
      *
@@ -0,0 +1,64 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.world.storage.ChunkLayout;
+
+/**
+ * Utility methods shared by the default implementations of extents and
+ * their workers.
+ */
+public final class ExtentUtil {
+
+    /**
+     * The chunk size used when no server is available to provide the
+     * chunk layout.
+     */
+    public static final Vector3i DEFAULT_CHUNK_SIZE = new Vector3i(16, 256, 16);
+
+    /**
+     * Gets the chunk size of the {@link ChunkLayout} of the server, or
+     * {@link #DEFAULT_CHUNK_SIZE} if Sponge is not initialized or no server
+     * is available.
+     *
+     * @return The chunk size
+     */
+    public static Vector3i getChunkSize() {
+        try {
+            if (Sponge.isServerAvailable()) {
+                return Sponge.getServer().getChunkLayout().getChunkSize();
+            }
+        } catch (IllegalStateException e) {
+            // Sponge has not been initialized
+        }
+        return DEFAULT_CHUNK_SIZE;
+    }
+
+    private ExtentUtil() {
+    }
+
+}
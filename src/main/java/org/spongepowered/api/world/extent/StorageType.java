@@ -42,6 +42,22 @@ public enum StorageType {
      * for multi-threaded applications, but single threaded ones might suffer
      * for extra overhead.
      */
-    THREAD_SAFE
+    THREAD_SAFE,
+
+    /**
+     * A compact storage solution for blocks. Each position stores an index
+     * into a {@link org.spongepowered.api.world.schematic.BlockPalette}, and
+     * the indices are packed using only as many bits as the largest index
+     * needs, as done by
+     * {@link org.spongepowered.api.world.schematic.PalettedBlockArray}. The
+     * bit width grows when the palette does. Reads and writes are a little
+     * slower than {@link #STANDARD}, but volumes with few distinct block
+     * states use a fraction of the memory. Not guaranteed to provide anything
+     * but single threaded capabilities.
+     *
+     * <p>Biome storage does not use a palette, and treats this type as
+     * {@link #STANDARD}.</p>
+     */
+    PALETTED
 
 }
@@ -24,8 +24,11 @@
  */
 package org.spongepowered.api.world.extent.worker;
 
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.world.biome.BiomeType;
 import org.spongepowered.api.world.extent.BiomeVolume;
 import org.spongepowered.api.world.extent.MutableBiomeVolume;
+import org.spongepowered.api.world.extent.UnmodifiableBiomeVolume;
 import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeMapper;
 import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeMerger;
 import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeReducer;
@@ -90,4 +93,99 @@
      */
     <T> T reduce(BiomeVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T identity);
 
+    /**
+     * Iterates this biome volume like {@link #iterate(BiomeVolumeVisitor)},
+     * but splits the volume into chunk aligned slabs which are visited in
+     * parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * <p>Every coordinate triplet is visited exactly once. Within a slab the
+     * coordinates are visited in order by a single thread, but there is no
+     * ordering between slabs. The visitor must therefore be thread safe, and
+     * the volume must support concurrent reads. This method returns once all
+     * slabs have been visited.</p>
+     *
+     * @param visitor The thread safe visitor
+     */
+    default void iterateParallel(BiomeVolumeVisitor<V> visitor) {
+        final V volume = getVolume();
+        VolumePartitions.forEachParallel(volume.getBiomeMin(), volume.getBiomeMax(), (x, y, z) -> visitor.visit(volume, x, y, z));
+    }
+
+    /**
+     * Applies a reduction operation to the volume like
+     * {@link #reduce(BiomeVolumeReducer, BiFunction, Object)}, but reduces
+     * chunk aligned slabs of the volume in parallel.
+     *
+     * <p>Each slab is reduced in order starting from the identity, after
+     * which the reductions of all slabs are combined using the merge
+     * function. The merge function must be associative, and the reducer and
+     * merge function must be thread safe.</p>
+     *
+     * @param reducer The reducing operation
+     * @param merge Merges two reductions into one
+     * @param identity The identity of the operation
+     * @param <T> The type of the reduction
+     * @return The reduction
+     */
+    default <T> T reduceParallel(BiomeVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T identity) {
+        final V volume = getVolume();
+        final UnmodifiableBiomeVolume unmodifiable = volume.getUnmodifiableBiomeView();
+        return VolumePartitions.split(volume.getBiomeMin(), volume.getBiomeMax()).parallelStream()
+                .map(slab -> {
+                    T reduction = identity;
+                    for (int z = slab.minZ; z <= slab.maxZ; z++) {
+                        for (int y = slab.minY; y <= slab.maxY; y++) {
+                            for (int x = slab.minX; x <= slab.maxX; x++) {
+                                reduction = reducer.reduce(unmodifiable, x, y, z, reduction);
+                            }
+                        }
+                    }
+                    return reduction;
+                })
+                .reduce(identity, merge::apply);
+    }
+
+    /**
+     * Applies a mapping operation like
+     * {@link #map(BiomeVolumeMapper, MutableBiomeVolume)}, but maps chunk
+     * aligned slabs of the volume in parallel. The mapper must be thread safe
+     * and the destination must support concurrent writes to different
+     * chunks.
+     *
+     * @param mapper The thread safe mapping operation
+     * @param destination The destination volume
+     */
+    default void mapParallel(BiomeVolumeMapper mapper, MutableBiomeVolume destination) {
+        final V volume = getVolume();
+        final UnmodifiableBiomeVolume unmodifiable = volume.getUnmodifiableBiomeView();
+        final Vector3i offset = destination.getBiomeMin().sub(volume.getBiomeMin());
+        VolumePartitions.forEachParallel(volume.getBiomeMin(), volume.getBiomeMax(), (x, y, z) ->
+                destination.setBiome(x + offset.getX(), y + offset.getY(), z + offset.getZ(), mapper.map(unmodifiable, x, y, z)));
+    }
+
+    /**
+     * Applies a merging operation like
+     * {@link #merge(BiomeVolume, BiomeVolumeMerger, MutableBiomeVolume)}, but
+     * merges chunk aligned slabs of the volume in parallel. The same
+     * requirements as for
+     * {@link #mapParallel(BiomeVolumeMapper, MutableBiomeVolume)} apply, and
+     * the second volume must support concurrent reads.
+     *
+     * @param second The volume to merge with
+     * @param merger The thread safe merging operation
+     * @param destination The destination volume
+     */
+    default void mergeParallel(BiomeVolume second, BiomeVolumeMerger merger, MutableBiomeVolume destination) {
+        final V volume = getVolume();
+        final UnmodifiableBiomeVolume unmodifiableFirst = volume.getUnmodifiableBiomeView();
+        final UnmodifiableBiomeVolume unmodifiableSecond = second.getUnmodifiableBiomeView();
+        final Vector3i secondOffset = second.getBiomeMin().sub(volume.getBiomeMin());
+        final Vector3i offset = destination.getBiomeMin().sub(volume.getBiomeMin());
+        VolumePartitions.forEachParallel(volume.getBiomeMin(), volume.getBiomeMax(), (x, y, z) -> {
+            final BiomeType biome = merger.merge(unmodifiableFirst, x, y, z,
+                    unmodifiableSecond, x + secondOffset.getX(), y + secondOffset.getY(), z + secondOffset.getZ());
+            destination.setBiome(x + offset.getX(), y + offset.getY(), z + offset.getZ(), biome);
+        });
+    }
+
 }
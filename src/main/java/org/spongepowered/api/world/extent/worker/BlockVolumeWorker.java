@@ -24,8 +24,12 @@
  */
 package org.spongepowered.api.world.extent.worker;
 
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.world.extent.BlockVolume;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMapper;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMerger;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeReducer;
@@ -39,6 +43,14 @@
  * their minimum coordinates. The other volumes must be at least as big as the
  * backing one.
  *
+ * <p>Each parallel operation takes the same parameters as its sequential
+ * counterpart, so a call can be made parallel by only renaming the method.
+ * Operations that change blocks use the {@link Cause} they are given. The
+ * overloads of {@link #map(BlockVolumeMapper, MutableBlockVolume)} and
+ * {@link #merge(BlockVolume, BlockVolumeMerger, MutableBlockVolume)} without
+ * a cause use the cause the worker was created with instead, and have no
+ * parallel variant.</p>
+ *
  * @param <V> The type of volume being worked on
  */
 public interface BlockVolumeWorker<V extends BlockVolume> {
@@ -58,6 +70,23 @@
      */
     void map(BlockVolumeMapper mapper, MutableBlockVolume destination);
 
+    /**
+     * Applies a mapping operation to all the blocks in the volume and saves the
+     * results to the destination volume, using the given cause for the block
+     * changes.
+     *
+     * @param mapper The mapping operation
+     * @param destination The destination volume
+     * @param cause The cause of the block changes
+     */
+    default void map(BlockVolumeMapper mapper, MutableBlockVolume destination, Cause cause) {
+        final V volume = getVolume();
+        final UnmodifiableBlockVolume unmodifiable = volume.getUnmodifiableBlockView();
+        final Vector3i offset = destination.getBlockMin().sub(volume.getBlockMin());
+        VolumePartitions.forEach(volume.getBlockMin(), volume.getBlockMax(), (x, y, z) ->
+                destination.setBlock(x + offset.getX(), y + offset.getY(), z + offset.getZ(), mapper.map(unmodifiable, x, y, z), cause));
+    }
+
     /**
      * Applies a merging operation to the blocks of the operating volume and an
      * external one. Saves the results to the destination volume.
@@ -68,6 +97,29 @@
      */
     void merge(BlockVolume second, BlockVolumeMerger merger, MutableBlockVolume destination);
 
+    /**
+     * Applies a merging operation to the blocks of the operating volume and an
+     * external one. Saves the results to the destination volume, using the
+     * given cause for the block changes.
+     *
+     * @param second The volume to merge with
+     * @param merger The merging operation
+     * @param destination The destination volume
+     * @param cause The cause of the block changes
+     */
+    default void merge(BlockVolume second, BlockVolumeMerger merger, MutableBlockVolume destination, Cause cause) {
+        final V volume = getVolume();
+        final UnmodifiableBlockVolume unmodifiableFirst = volume.getUnmodifiableBlockView();
+        final UnmodifiableBlockVolume unmodifiableSecond = second.getUnmodifiableBlockView();
+        final Vector3i secondOffset = second.getBlockMin().sub(volume.getBlockMin());
+        final Vector3i offset = destination.getBlockMin().sub(volume.getBlockMin());
+        VolumePartitions.forEach(volume.getBlockMin(), volume.getBlockMax(), (x, y, z) -> {
+            final BlockState block = merger.merge(unmodifiableFirst, x, y, z,
+                    unmodifiableSecond, x + secondOffset.getX(), y + secondOffset.getY(), z + secondOffset.getZ());
+            destination.setBlock(x + offset.getX(), y + offset.getY(), z + offset.getZ(), block, cause);
+        });
+    }
+
     /**
      * Iterates this block volume, calling the visitor on each coordinate
      * triplet.
@@ -90,4 +142,110 @@
      */
     <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T identity);
 
+    /**
+     * Iterates this block volume like {@link #iterate(BlockVolumeVisitor)},
+     * but splits the volume into chunk aligned slabs which are visited in
+     * parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * <p>Every coordinate triplet is visited exactly once. Within a slab the
+     * coordinates are visited in order by a single thread, but there is no
+     * ordering between slabs. The visitor must therefore be thread safe, and
+     * the volume must support concurrent reads, for example a buffer created
+     * by {@link org.spongepowered.api.world.extent.ExtentBufferFactory#createThreadSafeBlockBuffer(Vector3i)}
+     * or an immutable volume. This method returns once all slabs have been
+     * visited.</p>
+     *
+     * @param visitor The thread safe visitor
+     */
+    default void iterateParallel(BlockVolumeVisitor<V> visitor) {
+        final V volume = getVolume();
+        VolumePartitions.forEachParallel(volume.getBlockMin(), volume.getBlockMax(), (x, y, z) -> visitor.visit(volume, x, y, z));
+    }
+
+    /**
+     * Applies a reduction operation to the volume like
+     * {@link #reduce(BlockVolumeReducer, BiFunction, Object)}, but reduces
+     * chunk aligned slabs of the volume in parallel.
+     *
+     * <p>Each slab is reduced in order starting from the identity, after
+     * which the reductions of all slabs are combined using the merge
+     * function. The merge function must be associative, and the reducer and
+     * merge function must be thread safe.</p>
+     *
+     * @param reducer The reducing operation
+     * @param merge Merges two reductions into one
+     * @param identity The identity of the operation
+     * @param <T> The type of the reduction
+     * @return The reduction
+     */
+    default <T> T reduceParallel(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T identity) {
+        final V volume = getVolume();
+        final UnmodifiableBlockVolume unmodifiable = volume.getUnmodifiableBlockView();
+        return VolumePartitions.split(volume.getBlockMin(), volume.getBlockMax()).parallelStream()
+                .map(slab -> {
+                    T reduction = identity;
+                    for (int z = slab.minZ; z <= slab.maxZ; z++) {
+                        for (int y = slab.minY; y <= slab.maxY; y++) {
+                            for (int x = slab.minX; x <= slab.maxX; x++) {
+                                reduction = reducer.reduce(unmodifiable, x, y, z, reduction);
+                            }
+                        }
+                    }
+                    return reduction;
+                })
+                .reduce(identity, merge::apply);
+    }
+
+    /**
+     * Applies a mapping operation like
+     * {@link #map(BlockVolumeMapper, MutableBlockVolume, Cause)}, but maps chunk
+     * aligned slabs of the volume in parallel.
+     *
+     * <p>The mapper must be thread safe and the destination must support
+     * concurrent writes to different slabs, such as a buffer created by
+     * {@link org.spongepowered.api.world.extent.ExtentBufferFactory#createThreadSafeBlockBuffer(Vector3i)}.
+     * Writes to the destination are only chunk aligned if its minimum
+     * coordinates are offset from the ones of this volume by a multiple of the
+     * chunk size.</p>
+     *
+     * @param mapper The thread safe mapping operation
+     * @param destination The destination volume
+     * @param cause The cause of the block changes
+     */
+    default void mapParallel(BlockVolumeMapper mapper, MutableBlockVolume destination, Cause cause) {
+        final V volume = getVolume();
+        final UnmodifiableBlockVolume unmodifiable = volume.getUnmodifiableBlockView();
+        final Vector3i offset = destination.getBlockMin().sub(volume.getBlockMin());
+        final int xOffset = offset.getX();
+        final int yOffset = offset.getY();
+        final int zOffset = offset.getZ();
+        VolumePartitions.forEachParallel(volume.getBlockMin(), volume.getBlockMax(), (x, y, z) ->
+                destination.setBlock(x + xOffset, y + yOffset, z + zOffset, mapper.map(unmodifiable, x, y, z), cause));
+    }
+
+    /**
+     * Applies a merging operation like
+     * {@link #merge(BlockVolume, BlockVolumeMerger, MutableBlockVolume, Cause)},
+     * but merges chunk aligned slabs of the volume in parallel. The same
+     * requirements as for
+     * {@link #mapParallel(BlockVolumeMapper, MutableBlockVolume, Cause)}
+     * apply, and the second volume must support concurrent reads.
+     *
+     * @param second The volume to merge with
+     * @param merger The thread safe merging operation
+     * @param destination The destination volume
+     * @param cause The cause of the block changes
+     */
+    default void mergeParallel(BlockVolume second, BlockVolumeMerger merger, MutableBlockVolume destination, Cause cause) {
+        final V volume = getVolume();
+        final UnmodifiableBlockVolume unmodifiableFirst = volume.getUnmodifiableBlockView();
+        final UnmodifiableBlockVolume unmodifiableSecond = second.getUnmodifiableBlockView();
+        final Vector3i secondOffset = second.getBlockMin().sub(volume.getBlockMin());
+        final Vector3i offset = destination.getBlockMin().sub(volume.getBlockMin());
+        VolumePartitions.forEachParallel(volume.getBlockMin(), volume.getBlockMax(), (x, y, z) -> {
+            final BlockState block = merger.merge(unmodifiableFirst, x, y, z,
+                    unmodifiableSecond, x + secondOffset.getX(), y + secondOffset.getY(), z + secondOffset.getZ());
+            destination.setBlock(x + offset.getX(), y + offset.getY(), z + offset.getZ(), block, cause);
+        });
+    }
 }
@@ -72,4 +72,44 @@ default void merge(BiomeVolume right, BiomeVolumeMerger merger) {
      */
     void fill(BiomeVolumeFiller filler);
 
+    /**
+     * Similar to {@link BiomeVolumeWorker#mapParallel(BiomeVolumeMapper,
+     * MutableBiomeVolume)} but uses the operating volume as the destination.
+     * Precautions must be taken as the volume is modified while the operation
+     * is being performed, and biomes outside of the slab being mapped may be
+     * modified concurrently.
+     *
+     * @param mapper The thread safe mapping operation
+     */
+    default void mapParallel(BiomeVolumeMapper mapper) {
+        mapParallel(mapper, getVolume());
+    }
+
+    /**
+     * Similar to {@link BiomeVolumeWorker#mergeParallel(BiomeVolume,
+     * BiomeVolumeMerger, MutableBiomeVolume)} but uses the operating volume as
+     * the destination. The same precautions as for
+     * {@link #mapParallel(BiomeVolumeMapper)} apply.
+     *
+     * @param right the right-hand operand for the merge operation
+     * @param merger The thread safe merging operation
+     */
+    default void mergeParallel(BiomeVolume right, BiomeVolumeMerger merger) {
+        mergeParallel(right, merger, getVolume());
+    }
+
+    /**
+     * Applies a filler operation like {@link #fill(BiomeVolumeFiller)}, but
+     * fills chunk aligned slabs of the volume in parallel. The filler must be
+     * thread safe and the volume must support concurrent writes to different
+     * chunks.
+     *
+     * @param filler The thread safe filler operation
+     */
+    default void fillParallel(BiomeVolumeFiller filler) {
+        final A volume = getVolume();
+        VolumePartitions.forEachParallel(volume.getBiomeMin(), volume.getBiomeMax(), (x, y, z) ->
+                volume.setBiome(x, y, z, filler.produce(x, y, z)));
+    }
+
 }
@@ -66,6 +66,33 @@ default void merge(BlockVolume right, BlockVolumeMerger merger) {
         merge(right, merger, getVolume());
     }
 
+    /**
+     * Similar to {@link BlockVolumeWorker#map(BlockVolumeMapper,
+     * MutableBlockVolume, Cause)} but uses the operating volume as the
+     * destination. The same precautions as for
+     * {@link #map(BlockVolumeMapper)} apply.
+     *
+     * @param mapper The mapping operation
+     * @param cause The cause of the block changes
+     */
+    default void map(BlockVolumeMapper mapper, Cause cause) {
+        map(mapper, getVolume(), cause);
+    }
+
+    /**
+     * Similar to {@link BlockVolumeWorker#merge(BlockVolume, BlockVolumeMerger,
+     * MutableBlockVolume, Cause)} but uses the operating volume as the
+     * destination. The same precautions as for
+     * {@link #merge(BlockVolume, BlockVolumeMerger)} apply.
+     *
+     * @param right The right-hand operand of the merge operation
+     * @param merger The merging operation
+     * @param cause The cause of the block changes
+     */
+    default void merge(BlockVolume right, BlockVolumeMerger merger, Cause cause) {
+        merge(right, merger, getVolume(), cause);
+    }
+
     /**
      * Applies a filler operation to the volume.
      *
@@ -74,4 +101,47 @@ default void merge(BlockVolume right, BlockVolumeMerger merger) {
      */
     void fill(BlockVolumeFiller filler, Cause cause);
 
+    /**
+     * Similar to {@link BlockVolumeWorker#mapParallel(BlockVolumeMapper,
+     * MutableBlockVolume, Cause)} but uses the operating volume as the
+     * destination. Precautions must be taken as the volume is modified while
+     * the operation is being performed, and blocks outside of the slab being
+     * mapped may be modified concurrently.
+     *
+     * @param mapper The thread safe mapping operation
+     * @param cause The cause of the block changes
+     */
+    default void mapParallel(BlockVolumeMapper mapper, Cause cause) {
+        mapParallel(mapper, getVolume(), cause);
+    }
+
+    /**
+     * Similar to {@link BlockVolumeWorker#mergeParallel(BlockVolume,
+     * BlockVolumeMerger, MutableBlockVolume, Cause)} but uses the operating
+     * volume as the destination. The same precautions as for
+     * {@link #mapParallel(BlockVolumeMapper, Cause)} apply.
+     *
+     * @param right The right-hand operand of the merge operation
+     * @param merger The thread safe merging operation
+     * @param cause The cause of the block changes
+     */
+    default void mergeParallel(BlockVolume right, BlockVolumeMerger merger, Cause cause) {
+        mergeParallel(right, merger, getVolume(), cause);
+    }
+
+    /**
+     * Applies a filler operation like {@link #fill(BlockVolumeFiller, Cause)},
+     * but fills chunk aligned slabs of the volume in parallel. The filler must
+     * be thread safe and the volume must support concurrent writes to
+     * different chunks.
+     *
+     * @param filler The thread safe filler operation
+     * @param cause The cause of this operation
+     */
+    default void fillParallel(BlockVolumeFiller filler, Cause cause) {
+        final V volume = getVolume();
+        VolumePartitions.forEachParallel(volume.getBlockMin(), volume.getBlockMax(), (x, y, z) ->
+                volume.setBlock(x, y, z, filler.produce(x, y, z), cause));
+    }
+
 }
@@ -0,0 +1,136 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.world.extent.ExtentUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits volumes into chunk aligned slabs for parallel work.
+ */
+final class VolumePartitions {
+
+    /**
+     * Splits the given volume into slabs which span the full y range of the
+     * volume, and the x and z range of a single chunk of the server chunk
+     * layout.
+     *
+     * @param min The minimum coordinates of the volume
+     * @param max The maximum coordinates of the volume
+     * @return The slabs
+     */
+    static List<Slab> split(Vector3i min, Vector3i max) {
+        return split(min, max, ExtentUtil.getChunkSize());
+    }
+
+    /**
+     * Splits the given volume into slabs which span the full y range of the
+     * volume, and the x and z range of a single chunk of the given size.
+     *
+     * @param min The minimum coordinates of the volume
+     * @param max The maximum coordinates of the volume
+     * @param chunkSize The size of a chunk
+     * @return The slabs
+     */
+    static List<Slab> split(Vector3i min, Vector3i max, Vector3i chunkSize) {
+        final int sizeX = chunkSize.getX();
+        final int sizeZ = chunkSize.getZ();
+        final List<Slab> slabs = new ArrayList<>();
+        for (int chunkZ = Math.floorDiv(min.getZ(), sizeZ); chunkZ <= Math.floorDiv(max.getZ(), sizeZ); chunkZ++) {
+            for (int chunkX = Math.floorDiv(min.getX(), sizeX); chunkX <= Math.floorDiv(max.getX(), sizeX); chunkX++) {
+                slabs.add(new Slab(
+                        Math.max(min.getX(), chunkX * sizeX), min.getY(), Math.max(min.getZ(), chunkZ * sizeZ),
+                        Math.min(max.getX(), chunkX * sizeX + sizeX - 1), max.getY(), Math.min(max.getZ(), chunkZ * sizeZ + sizeZ - 1)));
+            }
+        }
+        return slabs;
+    }
+
+    /**
+     * Calls the given consumer for every coordinate triplet of the given
+     * volume, in order on the calling thread.
+     *
+     * @param min The minimum coordinates of the volume
+     * @param max The maximum coordinates of the volume
+     * @param consumer The consumer
+     */
+    static void forEach(Vector3i min, Vector3i max, CoordinateConsumer consumer) {
+        for (int z = min.getZ(); z <= max.getZ(); z++) {
+            for (int y = min.getY(); y <= max.getY(); y++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    consumer.accept(x, y, z);
+                }
+            }
+        }
+    }
+
+    /**
+     * Calls the given consumer for every coordinate triplet of the given
+     * volume. The slabs of the volume are processed in parallel, the
+     * coordinates within a slab are processed in order by a single thread.
+     *
+     * @param min The minimum coordinates of the volume
+     * @param max The maximum coordinates of the volume
+     * @param consumer The consumer
+     */
+    static void forEachParallel(Vector3i min, Vector3i max, CoordinateConsumer consumer) {
+        split(min, max).parallelStream().forEach(slab ->
+                forEach(new Vector3i(slab.minX, slab.minY, slab.minZ), new Vector3i(slab.maxX, slab.maxY, slab.maxZ), consumer));
+    }
+
+    @FunctionalInterface
+    interface CoordinateConsumer {
+
+        void accept(int x, int y, int z);
+
+    }
+
+    static final class Slab {
+
+        final int minX;
+        final int minY;
+        final int minZ;
+        final int maxX;
+        final int maxY;
+        final int maxZ;
+
+        Slab(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+            this.minX = minX;
+            this.minY = minY;
+            this.minZ = minZ;
+            this.maxX = maxX;
+            this.maxY = maxY;
+            this.maxZ = maxZ;
+        }
+
+    }
+
+    private VolumePartitions() {
+    }
+
+}
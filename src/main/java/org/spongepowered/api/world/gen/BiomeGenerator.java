@@ -40,6 +40,10 @@ public interface BiomeGenerator {
      * position. The biome generator should, for any position/world seed
      * combination, always return the same biome. </p>
      *
+     * <p>This method may be called concurrently from several threads, each
+     * with its own buffer, so any state that changes between calls should be
+     * kept in a context owned by the calling thread.</p>
+     *
      * @param buffer The buffer to generate the biomes into.
      */
     void generateBiomes(MutableBiomeVolume buffer);
@@ -34,6 +34,15 @@
  * 
  * <p>Unlike a normal {@link Populator}, a {@link GenerationPopulator} is
  * restricted to the chunk that is currently being generated.</p>
+ *
+ * <p>A generation populator may be called concurrently from several threads,
+ * each with its own buffer. It should therefore not mutate its own fields
+ * while populating; state that has to change with each call, such as noise
+ * modules that are seeded with the world seed, should instead be kept in a
+ * context owned by the calling thread (for example through a
+ * {@link ThreadLocal}). The result for a buffer must only depend on the world
+ * seed and the position of the buffer, and not on the order in which buffers
+ * are populated.</p>
  */
 public interface GenerationPopulator {
 
@@ -48,4 +57,28 @@ public interface GenerationPopulator {
      */
     void populate(World world, MutableBlockVolume buffer, ImmutableBiomeVolume biomes);
 
+    /**
+     * Operates on a {@link MutableBlockVolume} either forming the base terrain
+     * or performing modifications during the generation phase, with the
+     * {@link SurfaceCache} shared by all the generation populators of the
+     * generation pass.
+     *
+     * <p>Populators that look for the surface of the columns should override
+     * this method and make their changes through the surface cache. The
+     * default implementation calls
+     * {@link #populate(World, MutableBlockVolume, ImmutableBiomeVolume)} and
+     * then invalidates the whole cache, as it can't know which columns were
+     * changed.</p>
+     *
+     * @param world The world
+     * @param buffer The buffer to apply the changes to. The buffer can be of
+     *        any size.
+     * @param biomes The biomes for generation
+     * @param surfaces The surfaces of the buffer
+     */
+    default void populate(World world, MutableBlockVolume buffer, ImmutableBiomeVolume biomes, SurfaceCache surfaces) {
+        populate(world, buffer, biomes);
+        surfaces.invalidateAll();
+    }
+
 }
@@ -0,0 +1,86 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.gen;
+
+import org.spongepowered.api.world.biome.BiomeGenerationSettings;
+
+/**
+ * The stages a chunk goes through while it is generated by a
+ * {@link WorldGenerator}, in the order in which they are run.
+ *
+ * <p>The stages before {@link #DECORATION} only work on buffers of the chunk
+ * itself, and only depend on the previous stages of the same chunk. An
+ * implementation may therefore run them on worker threads, ahead of the
+ * chunk being needed. The {@link #DECORATION} stage changes the world and
+ * needs the chunks around the decorated one, so it is always run on the main
+ * thread.</p>
+ */
+public enum GenerationStage {
+
+    /**
+     * The {@link WorldGenerator#getBiomeGenerator() biome generator} fills
+     * the biomes of the chunk.
+     */
+    BIOMES(true),
+
+    /**
+     * The {@link WorldGenerator#getBaseGenerationPopulator() base generation
+     * populator} forms the base terrain of the chunk.
+     */
+    BASE_TERRAIN(true),
+
+    /**
+     * The ground cover layers and the generation populators of the
+     * {@link BiomeGenerationSettings biomes}, followed by the
+     * {@link WorldGenerator#getGenerationPopulators() generation populators}
+     * of the world generator, modify the terrain of the chunk.
+     */
+    GENERATION_POPULATORS(true),
+
+    /**
+     * The {@link Populator populators} of the biomes and of the world
+     * generator decorate the chunk. A chunk is only decorated once all the
+     * chunks within the {@link Populator#getChunkRadius() chunk radius} of
+     * its populators have passed {@link #GENERATION_POPULATORS}.
+     */
+    DECORATION(false);
+
+    private final boolean async;
+
+    GenerationStage(boolean async) {
+        this.async = async;
+    }
+
+    /**
+     * Gets whether this stage may be run on a thread other than the main
+     * thread.
+     *
+     * @return Whether this stage may be run asynchronously
+     */
+    public boolean isAsync() {
+        return this.async;
+    }
+
+}
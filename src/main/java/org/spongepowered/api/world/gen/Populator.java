@@ -49,6 +49,13 @@
  * nor are events thrown for block changes from a populator performing block
  * changes.</p>
  *
+ * <p>Populators are called during the {@link GenerationStage#DECORATION}
+ * stage, on the main thread, once all the chunks within their
+ * {@link #getChunkRadius() chunk radius} have been generated. A populator
+ * should still keep any state that changes between calls in a context owned
+ * by the calling thread, rather than in its own fields, and only use the
+ * given {@link Random} for its randomness.</p>
+ *
  * @see PopulatorObject
  */
 public interface Populator {
@@ -68,6 +75,22 @@ public interface Populator {
      */
     PopulatorType getType();
 
+    /**
+     * Gets the radius, in chunks, around the populated chunk that this
+     * populator may place blocks in or read blocks from. All the chunks
+     * within this radius will have passed the
+     * {@link GenerationStage#GENERATION_POPULATORS} stage before this
+     * populator is called.
+     *
+     * <p>The default radius of 1 allows the populator to reach into the
+     * chunks directly surrounding the populated one.</p>
+     *
+     * @return The chunk radius, at least 0
+     */
+    default int getChunkRadius() {
+        return 1;
+    }
+
     /**
      * Applies the populator to the given {@link Extent} volume. The entire volume
      * of the given extent should be populated.
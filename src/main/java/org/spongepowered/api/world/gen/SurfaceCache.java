@@ -0,0 +1,212 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.gen;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+
+import java.util.Arrays;
+
+/**
+ * Remembers the surface of each column of a generation buffer, so that
+ * {@link GenerationPopulator}s don't each have to scan the columns from the
+ * top to find it.
+ *
+ * <p>The surface of a column is the highest block in it that is not air. It
+ * is only looked up once per column, and is kept up to date by the writes
+ * made through {@link #setBlock(int, int, int, BlockState, Cause)} and
+ * {@link #setBlockType(int, int, int, BlockType, Cause)}. Writes made
+ * directly to the buffer are not seen by the cache, so
+ * {@link #invalidate(int, int)} or {@link #invalidateAll()} must be called
+ * after them.</p>
+ *
+ * <p>A single cache is passed to all the generation populators of a
+ * generation pass through
+ * {@link GenerationPopulator#populate(org.spongepowered.api.world.World,
+ * MutableBlockVolume, org.spongepowered.api.world.extent.ImmutableBiomeVolume,
+ * SurfaceCache)}. Like the buffer, it must not be used by several threads at
+ * once.</p>
+ */
+public final class SurfaceCache {
+
+    private static final int UNKNOWN = Integer.MIN_VALUE;
+
+    private final MutableBlockVolume buffer;
+    private final Vector3i min;
+    private final Vector3i max;
+    private final int xSize;
+    private final int[] surfaces;
+
+    /**
+     * Creates a new surface cache for the given buffer.
+     *
+     * @param buffer The buffer to cache the surfaces of
+     */
+    public SurfaceCache(MutableBlockVolume buffer) {
+        this.buffer = checkNotNull(buffer, "buffer");
+        this.min = buffer.getBlockMin();
+        this.max = buffer.getBlockMax();
+        final Vector3i size = buffer.getBlockSize();
+        this.xSize = size.getX();
+        this.surfaces = new int[this.xSize * size.getZ()];
+        Arrays.fill(this.surfaces, UNKNOWN);
+    }
+
+    /**
+     * Gets the buffer of which the surfaces are cached.
+     *
+     * @return The buffer
+     */
+    public MutableBlockVolume getBuffer() {
+        return this.buffer;
+    }
+
+    /**
+     * Gets the y coordinate of the highest block that is not air in the
+     * column at the given x and z coordinates.
+     *
+     * @param x The x coordinate
+     * @param z The z coordinate
+     * @return The y coordinate of the surface, or one less than the minimum
+     *     y coordinate of the buffer if the column only contains air
+     * @throws PositionOutOfBoundsException If the column is outside of the
+     *     bounds of the buffer
+     */
+    public int getSurface(int x, int z) {
+        final int index = index(x, z);
+        int surface = this.surfaces[index];
+        if (surface == UNKNOWN) {
+            surface = scan(x, this.max.getY(), z);
+            this.surfaces[index] = surface;
+        }
+        return surface;
+    }
+
+    /**
+     * Sets the block at the given position in the buffer, and updates the
+     * surface of its column.
+     *
+     * @param x The x position
+     * @param y The y position
+     * @param z The z position
+     * @param block The block
+     * @param cause The cause
+     * @return Whether the block change was successful
+     * @throws PositionOutOfBoundsException If the position is outside of the
+     *     bounds of the buffer
+     * @see MutableBlockVolume#setBlock(int, int, int, BlockState, Cause)
+     */
+    public boolean setBlock(int x, int y, int z, BlockState block, Cause cause) {
+        final int index = index(x, z);
+        if (!this.buffer.setBlock(x, y, z, block, cause)) {
+            return false;
+        }
+        update(index, x, y, z, block.getType());
+        return true;
+    }
+
+    /**
+     * Sets the block type at the given position in the buffer, and updates
+     * the surface of its column.
+     *
+     * @param x The x position
+     * @param y The y position
+     * @param z The z position
+     * @param type The block type
+     * @param cause The cause
+     * @return Whether the block change was successful
+     * @throws PositionOutOfBoundsException If the position is outside of the
+     *     bounds of the buffer
+     * @see MutableBlockVolume#setBlockType(int, int, int, BlockType, Cause)
+     */
+    public boolean setBlockType(int x, int y, int z, BlockType type, Cause cause) {
+        final int index = index(x, z);
+        if (!this.buffer.setBlockType(x, y, z, type, cause)) {
+            return false;
+        }
+        update(index, x, y, z, type);
+        return true;
+    }
+
+    /**
+     * Forgets the surface of the column at the given x and z coordinates, so
+     * that it is looked up again on the next use. This must be called after
+     * changing the column without going through this cache.
+     *
+     * @param x The x coordinate
+     * @param z The z coordinate
+     * @throws PositionOutOfBoundsException If the column is outside of the
+     *     bounds of the buffer
+     */
+    public void invalidate(int x, int z) {
+        this.surfaces[index(x, z)] = UNKNOWN;
+    }
+
+    /**
+     * Forgets the surfaces of all the columns. This must be called after
+     * changing the buffer without going through this cache.
+     */
+    public void invalidateAll() {
+        Arrays.fill(this.surfaces, UNKNOWN);
+    }
+
+    private void update(int index, int x, int y, int z, BlockType type) {
+        final int surface = this.surfaces[index];
+        if (surface == UNKNOWN) {
+            return;
+        }
+        if (!type.equals(BlockTypes.AIR)) {
+            if (y > surface) {
+                this.surfaces[index] = y;
+            }
+        } else if (y == surface) {
+            // everything above is air already, so only look below
+            this.surfaces[index] = scan(x, y - 1, z);
+        }
+    }
+
+    private int scan(int x, int y, int z) {
+        final int yMin = this.min.getY();
+        for (; y >= yMin && this.buffer.getBlockType(x, y, z).equals(BlockTypes.AIR); y--) {
+            // iterate until we reach the surface
+        }
+        return y;
+    }
+
+    private int index(int x, int z) {
+        if (x < this.min.getX() || x > this.max.getX() || z < this.min.getZ() || z > this.max.getZ()) {
+            throw new PositionOutOfBoundsException(new Vector3i(x, this.min.getY(), z), this.min, this.max);
+        }
+        return (z - this.min.getZ()) * this.xSize + x - this.min.getX();
+    }
+
+}
@@ -59,6 +59,23 @@
  *     registered to the WorldGenerator.</li>
  *   <li>Build thefinal Chunk object from the contents of the BlockBuffer.</li>
  * </ol>
+ *
+ * <p>The generation phase and the biome generation are split into the
+ * {@link GenerationStage}s. Those stages only depend on the chunk that is
+ * being generated, so an implementation may run them on worker threads ahead
+ * of the chunk being needed, for example while
+ * {@link org.spongepowered.api.world.ChunkPreGenerate pre-generating} chunks.
+ * The {@link BiomeGenerator}, the base generation populator and the
+ * generation populators must therefore be safe to call from several threads
+ * at once, as described in {@link GenerationPopulator}. Only the population
+ * phase, the {@link GenerationStage#DECORATION decoration} stage, is always
+ * run on the main thread.</p>
+ *
+ * <p>All the generation populators called after the base generation populator
+ * are given the same {@link SurfaceCache} for the BlockBuffer, through
+ * {@link GenerationPopulator#populate(org.spongepowered.api.world.World,
+ * org.spongepowered.api.world.extent.MutableBlockVolume,
+ * org.spongepowered.api.world.extent.ImmutableBiomeVolume, SurfaceCache)}.</p>
  * 
  * <ol><strong>The population phase:</strong>
  *   <li>Validate surrounding chunks.</li>
@@ -0,0 +1,188 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.schematic;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.block.BlockState;
+
+import java.util.Arrays;
+
+/**
+ * A fixed size array of {@link BlockState}s which stores the identifiers of
+ * the states in a {@link BlockPalette}, rather than the states themselves.
+ *
+ * <p>The identifiers are packed into a {@code long[]}, each using as many
+ * bits as the highest identifier needs. An identifier never spans two
+ * longs. When a state with an identifier that does not fit is set, the array
+ * is repacked with a larger bit width. For example, a 512x256x512 volume
+ * using at most 16 distinct states takes up 32 MiB, where an array of
+ * references to the states would take up at least 256 MiB.</p>
+ *
+ * <p>This class is not thread safe.</p>
+ */
+public final class PalettedBlockArray {
+
+    /**
+     * The smallest number of bits used per entry, to avoid repacking the
+     * array for each of the first few states that are set.
+     */
+    private static final int MIN_BITS = 4;
+
+    private final BlockPalette palette;
+    private final int size;
+    private int bits;
+    private int entriesPerLong;
+    private long mask;
+    private long[] data;
+
+    /**
+     * Creates a new array of the given size, with all entries set to the
+     * given default state.
+     *
+     * @param palette The palette to store the states in
+     * @param size The number of entries
+     * @param defaultState The state of all entries
+     */
+    public PalettedBlockArray(BlockPalette palette, int size, BlockState defaultState) {
+        this.palette = checkNotNull(palette, "palette");
+        checkArgument(size >= 0, "size must not be negative");
+        checkNotNull(defaultState, "defaultState");
+        this.size = size;
+        final int defaultId = palette.getOrAssign(defaultState);
+        resize(Math.max(bitsFor(palette.getHighestId()), bitsFor(defaultId)));
+        if (defaultId != 0) {
+            long word = 0;
+            for (int i = 0; i < this.entriesPerLong; i++) {
+                word |= (long) defaultId << (i * this.bits);
+            }
+            Arrays.fill(this.data, word);
+        }
+    }
+
+    private static int bitsFor(int id) {
+        return Math.max(MIN_BITS, Integer.SIZE - Integer.numberOfLeadingZeros(id));
+    }
+
+    /**
+     * Gets the palette the states of this array are stored in.
+     *
+     * @return The palette
+     */
+    public BlockPalette getPalette() {
+        return this.palette;
+    }
+
+    /**
+     * Gets the number of entries in this array.
+     *
+     * @return The number of entries
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the number of bits currently used to store each entry.
+     *
+     * @return The number of bits per entry
+     */
+    public int getBitsPerEntry() {
+        return this.bits;
+    }
+
+    /**
+     * Gets the block state at the given index.
+     *
+     * @param index The index
+     * @return The block state
+     * @throws IllegalStateException If the identifier at the index was
+     *     removed from the palette
+     */
+    public BlockState get(int index) {
+        final int id = getId(index);
+        return this.palette.get(id).orElseThrow(() -> new IllegalStateException("Palette has no state for id " + id));
+    }
+
+    /**
+     * Sets the block state at the given index, assigning it an identifier in
+     * the palette if it does not have one yet.
+     *
+     * @param index The index
+     * @param state The block state
+     */
+    public void set(int index, BlockState state) {
+        checkNotNull(state, "state");
+        setId(index, this.palette.getOrAssign(state));
+    }
+
+    /**
+     * Gets the palette identifier at the given index.
+     *
+     * @param index The index
+     * @return The identifier
+     */
+    public int getId(int index) {
+        checkElementIndex(index, this.size);
+        final int entriesPerLong = this.entriesPerLong;
+        return (int) ((this.data[index / entriesPerLong] >>> ((index % entriesPerLong) * this.bits)) & this.mask);
+    }
+
+    /**
+     * Sets the palette identifier at the given index. The array is repacked
+     * if the identifier does not fit in the current bit width.
+     *
+     * @param index The index
+     * @param id The identifier
+     */
+    public void setId(int index, int id) {
+        checkElementIndex(index, this.size);
+        checkArgument(id >= 0, "id must not be negative");
+        if (id > this.mask) {
+            resize(bitsFor(id));
+        }
+        final int entriesPerLong = this.entriesPerLong;
+        final int word = index / entriesPerLong;
+        final int shift = (index % entriesPerLong) * this.bits;
+        this.data[word] = (this.data[word] & ~(this.mask << shift)) | ((long) id << shift);
+    }
+
+    private void resize(int bits) {
+        final int entriesPerLong = Long.SIZE / bits;
+        final long[] data = new long[(this.size + entriesPerLong - 1) / entriesPerLong];
+        if (this.data != null) {
+            for (int i = 0; i < this.size; i++) {
+                data[i / entriesPerLong] |= (long) getId(i) << ((i % entriesPerLong) * bits);
+            }
+        }
+        this.bits = bits;
+        this.entriesPerLong = entriesPerLong;
+        this.mask = (1L << bits) - 1;
+        this.data = data;
+    }
+
+}
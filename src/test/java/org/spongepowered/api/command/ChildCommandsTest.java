@@ -24,6 +24,9 @@
  */
 package org.spongepowered.api.command;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import com.google.common.collect.ImmutableList;
@@ -36,6 +39,7 @@
 import org.spongepowered.api.command.spec.CommandExecutor;
 import org.spongepowered.api.command.spec.CommandSpec;
 import org.spongepowered.api.text.TestPlainTextSerializer;
+import org.spongepowered.api.text.Text;
 
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -70,4 +74,26 @@ public CommandResult execute(CommandSource src, CommandContext args) throws Comm
 
         assertTrue(childExecuted.get());
     }
+
+    @Test
+    public void testUsageFollowsChildPermissions() {
+        final CommandSpec spec = CommandSpec.builder()
+                .child(CommandSpec.builder().executor((src, args) -> CommandResult.empty()).build(), "public")
+                .child(CommandSpec.builder().permission("test.secret").executor((src, args) -> CommandResult.empty()).build(), "secret")
+                .build();
+        final CommandSource allowed = Mockito.mock(CommandSource.class);
+        Mockito.when(allowed.hasPermission("test.secret")).thenReturn(true);
+        final CommandSource denied = Mockito.mock(CommandSource.class);
+
+        final Text allowedUsage = spec.getUsage(allowed);
+        assertTrue(allowedUsage.toPlain().contains("secret"));
+        assertFalse(spec.getUsage(denied).toPlain().contains("secret"));
+        assertTrue(spec.getUsage(denied).toPlain().contains("public"));
+        // Sources with the same permissions share the cached usage
+        assertSame(allowedUsage, spec.getUsage(allowed));
+        // Help wraps the usage, and is cached the same way
+        final Text allowedHelp = spec.getHelp(allowed).get();
+        assertEquals(Text.builder().append(allowedUsage).build(), allowedHelp);
+        assertSame(allowedHelp, spec.getHelp(allowed).get());
+    }
 }
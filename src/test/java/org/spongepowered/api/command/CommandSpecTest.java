@@ -24,6 +24,17 @@
  */
 package org.spongepowered.api.command;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -32,6 +43,16 @@
 import org.spongepowered.api.command.dispatcher.SimpleDispatcher;
 import org.spongepowered.api.command.spec.CommandExecutor;
 import org.spongepowered.api.command.spec.CommandSpec;
+import org.spongepowered.api.scheduler.Scheduler;
+import org.spongepowered.api.scheduler.SpongeExecutorService;
+import org.spongepowered.api.text.TestPlainTextSerializer;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.util.test.TestHooks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Test for basic commandspec creation.
@@ -40,6 +61,11 @@ public class CommandSpecTest {
     @Rule
     public ExpectedException expected = ExpectedException.none();
 
+    @Before
+    public void initialize() throws Exception {
+        TestPlainTextSerializer.inject();
+    }
+
     @Test
     public void testNoArgsFunctional() throws CommandException {
         CommandSpec cmd = CommandSpec.builder()
@@ -64,4 +90,106 @@ public void testExecutorRequired() {
                 .build();
 
     }
+
+    @Test
+    public void testProcessAsyncWithoutAsyncExecution() throws Exception {
+        CommandSpec cmd = CommandSpec.builder()
+                .executor((src, args) -> CommandResult.success())
+                .build();
+
+        final SimpleDispatcher dispatcher = new SimpleDispatcher();
+        dispatcher.register(cmd, "cmd");
+        CompletableFuture<CommandResult> result = dispatcher.processAsync(Mockito.mock(CommandSource.class), "cmd");
+        assertTrue(result.isDone());
+        assertSame(CommandResult.success(), result.get());
+    }
+
+    @Test
+    public void testProcessAsyncChecksPermissionOnCallingThread() throws Exception {
+        CommandSpec cmd = CommandSpec.builder()
+                .permission("test.cmd")
+                .async(new Object())
+                .executor((src, args) -> CommandResult.success())
+                .build();
+
+        CompletableFuture<CommandResult> result = cmd.processAsync(Mockito.mock(CommandSource.class), "");
+        assertTrue(result.isCompletedExceptionally());
+        this.expected.expect(ExecutionException.class);
+        this.expected.expectCause(instanceOf(CommandPermissionException.class));
+        result.get();
+    }
+
+    @Test
+    public void testAsyncCommandRunsOnAsyncExecutor() throws Exception {
+        final Object plugin = new Object();
+        final List<Runnable> syncTasks = new ArrayList<>();
+        final List<Runnable> asyncTasks = new ArrayList<>();
+        mockScheduler(plugin, syncTasks, asyncTasks);
+        final List<String> calls = new ArrayList<>();
+        CommandSpec cmd = CommandSpec.builder()
+                .async(plugin)
+                .executor((src, args) -> {
+                    calls.add("executed");
+                    return CommandResult.success();
+                })
+                .build();
+
+        CompletableFuture<CommandResult> result = cmd.processAsync(mock(CommandSource.class), "");
+        assertTrue(calls.isEmpty());
+        assertEquals(1, asyncTasks.size());
+        assertTrue(syncTasks.isEmpty());
+
+        asyncTasks.remove(0).run();
+        assertEquals(1, calls.size());
+        // The result is only delivered once the sync executor runs
+        assertFalse(result.isDone());
+        assertEquals(1, syncTasks.size());
+
+        syncTasks.remove(0).run();
+        assertTrue(result.isDone());
+        assertSame(CommandResult.success(), result.get());
+        assertTrue(asyncTasks.isEmpty());
+    }
+
+    @Test
+    public void testAsyncCommandDeliversExceptionOnSyncExecutor() throws Exception {
+        final Object plugin = new Object();
+        final List<Runnable> syncTasks = new ArrayList<>();
+        final List<Runnable> asyncTasks = new ArrayList<>();
+        mockScheduler(plugin, syncTasks, asyncTasks);
+        CommandSpec cmd = CommandSpec.builder()
+                .async(plugin)
+                .executor((src, args) -> {
+                    throw new CommandException(Text.of("failed"));
+                })
+                .build();
+
+        CompletableFuture<CommandResult> result = cmd.processAsync(mock(CommandSource.class), "");
+        assertEquals(1, asyncTasks.size());
+        asyncTasks.remove(0).run();
+        assertFalse(result.isDone());
+        assertEquals(1, syncTasks.size());
+
+        syncTasks.remove(0).run();
+        assertTrue(result.isCompletedExceptionally());
+        this.expected.expect(ExecutionException.class);
+        this.expected.expectCause(instanceOf(CommandException.class));
+        result.get();
+    }
+
+    private static void mockScheduler(Object plugin, List<Runnable> syncTasks, List<Runnable> asyncTasks) throws Exception {
+        final Scheduler scheduler = mock(Scheduler.class);
+        final SpongeExecutorService sync = recordingExecutor(syncTasks);
+        final SpongeExecutorService async = recordingExecutor(asyncTasks);
+        when(scheduler.createSyncExecutor(plugin)).thenReturn(sync);
+        when(scheduler.createAsyncExecutor(plugin)).thenReturn(async);
+        TestHooks.setInstance("scheduler", scheduler);
+    }
+
+    private static SpongeExecutorService recordingExecutor(List<Runnable> tasks) {
+        final SpongeExecutorService executor = mock(SpongeExecutorService.class);
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(executor).execute(any(Runnable.class));
+        return executor;
+    }
+
 }
@@ -0,0 +1,62 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.args;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.Optional;
+
+public class PrefixIndexTest {
+
+    private static final PrefixIndex INDEX = PrefixIndex.of(ImmutableList.of("minecraft:stone", "Minecraft:Dirt", "minecraft:stone_slab",
+            "sponge:stone", "minecraft:air"));
+
+    @Test
+    public void testStartingWith() {
+        assertEquals(ImmutableList.of("minecraft:stone", "minecraft:stone_slab"), INDEX.startingWith("MINECRAFT:st"));
+        assertEquals(ImmutableList.of("minecraft:air", "Minecraft:Dirt", "minecraft:stone", "minecraft:stone_slab"),
+                INDEX.startingWith("minecraft"));
+        assertEquals(ImmutableList.of(), INDEX.startingWith("forge"));
+        assertEquals(INDEX.getChoices(), INDEX.startingWith(""));
+    }
+
+    @Test
+    public void testGet() {
+        assertEquals(Optional.of("Minecraft:Dirt"), INDEX.get("minecraft:dirt"));
+        assertEquals(Optional.of("minecraft:stone"), INDEX.get("minecraft:STONE"));
+        assertFalse(INDEX.get("minecraft:ston").isPresent());
+    }
+
+    @Test
+    public void testEmpty() {
+        assertEquals(0, PrefixIndex.of(ImmutableList.of()).size());
+        assertEquals(ImmutableList.of(), PrefixIndex.of(ImmutableList.of()).startingWith("a"));
+    }
+
+}
@@ -107,4 +107,10 @@ public void testEscape() throws ArgumentParseException {
     public void testTrailingSpace() throws ArgumentParseException {
         assertEquals(ImmutableList.of("a", "test", "argument", "string", ""), parseFrom("a test argument string "));
     }
+
+    @Test
+    public void testArgumentPositions() throws ArgumentParseException {
+        assertEquals(ImmutableList.of(new SingleArg("first", 0, 4), new SingleArg("quoted arg", 6, 17), new SingleArg("esc aped", 19, 27)),
+                new QuotedStringTokenizer(true, false, false).tokenize("first 'quoted arg' esc\\ aped", false));
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.dispatcher;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.command.CommandCallable;
+import org.spongepowered.api.command.CommandMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+public class SimpleDispatcherTest {
+
+    private static final int THREADS = 2;
+    private static final int ROUNDS = 200;
+    private static final List<String> ALIASES = ImmutableList.of("foo");
+
+    @Test
+    public void testConcurrentRegistrationOfSameAlias() throws Exception {
+        final CommandCallable callable = Mockito.mock(CommandCallable.class);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                final SimpleDispatcher dispatcher = new SimpleDispatcher();
+                final CountDownLatch start = new CountDownLatch(1);
+                final List<Future<Optional<CommandMapping>>> results = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        // Only register the aliases which are still available
+                        return dispatcher.register(callable, ALIASES, aliases -> {
+                            final List<String> available = aliases.stream()
+                                    .filter(alias -> !dispatcher.containsAlias(alias))
+                                    .collect(Collectors.toList());
+                            Thread.yield();
+                            return available;
+                        });
+                    }));
+                }
+                start.countDown();
+
+                int registered = 0;
+                for (Future<Optional<CommandMapping>> result : results) {
+                    if (result.get().isPresent()) {
+                        registered++;
+                    }
+                }
+                assertEquals(1, registered);
+                assertEquals(1, dispatcher.getAll("foo").size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -154,4 +154,13 @@ public void testEquals() {
         assertThat(query1.equals(nonEqual), is(false));
     }
 
+    @Test
+    public void testPopHashCode() {
+        final DataQuery query = DataQuery.of("this", "parts", "test");
+        assertThat(query.popFirst().hashCode(), is(DataQuery.of("parts", "test").hashCode()));
+        assertThat(query.pop().hashCode(), is(DataQuery.of("this", "parts").hashCode()));
+        assertThat(query.popFirst().equals(DataQuery.of("parts", "test")), is(true));
+        assertThat(query.then(DataQuery.of()), is(query));
+    }
+
 }
@@ -24,6 +24,10 @@
  */
 package org.spongepowered.api.data;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -406,4 +410,92 @@ public void testDeepSerialization() {
         main.getMap(of()).get();
     }
 
+    @Test
+    public void testDeepValuesCloneArrays() {
+        final int[] array = {1, 2, 3};
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.ALL_DATA_CLONED);
+        container.set(of("foo", "bar"), array);
+        container.set(of("baz"), "baz");
+
+        final Map<DataQuery, Object> deepValues = container.getValues(true);
+        assertEquals(Sets.newHashSet(of("foo"), of("foo", "bar"), of("baz")), deepValues.keySet());
+        assertEquals("baz", deepValues.get(of("baz")));
+
+        final int[] deepArray = (int[]) deepValues.get(of("foo", "bar"));
+        final int[] nestedArray = (int[]) ((Map<?, ?>) deepValues.get(of("foo"))).get(of("bar"));
+        assertArrayEquals(array, deepArray);
+        assertArrayEquals(array, nestedArray);
+        deepArray[0] = 4;
+        nestedArray[1] = 5;
+        assertArrayEquals(array, (int[]) container.get(of("foo", "bar")).get());
+        assertNotSame(deepArray, container.getValues(true).get(of("foo", "bar")));
+    }
+
+    @Test
+    public void testSetNestedPath() {
+        final DataContainer container = DataContainer.createNew();
+        container.set(of("foo", "bar", "baz"), 1);
+        container.set(of("foo", "bar", "qux"), 2);
+        container.set(of("foo", "quux"), 3);
+
+        final DataView bar = container.getView(of("foo", "bar")).get();
+        assertEquals(of("foo", "bar"), bar.getCurrentPath());
+        assertEquals(container, bar.getContainer());
+        assertEquals(Sets.newHashSet(of("baz"), of("qux")), bar.getKeys(false));
+        assertEquals(Optional.of(1), container.getInt(of("foo", "bar", "baz")));
+        assertEquals(Optional.of(3), container.getInt(of("foo", "quux")));
+
+        container.set(of("foo", "bar", "baz"), 4);
+        assertEquals(Optional.of(4), bar.getInt(of("baz")));
+        assertEquals(Optional.of(2), bar.getInt(of("qux")));
+    }
+
+    @Test
+    public void testSetDataViewCopiesView() {
+        final DataContainer source = DataContainer.createNew();
+        source.set(of("foo"), 1);
+        source.set(of("bar", "baz"), "baz");
+        source.set(of("bar", "qux", "quux"), 2.0D);
+
+        final DataContainer container = DataContainer.createNew();
+        container.set(of("copy"), source);
+        assertEquals(source.getValues(true).size() + 1, container.getKeys(true).size());
+        assertEquals(Optional.of(1), container.getInt(of("copy", "foo")));
+        assertEquals(Optional.of("baz"), container.getString(of("copy", "bar", "baz")));
+        assertEquals(Optional.of(2.0D), container.getDouble(of("copy", "bar", "qux", "quux")));
+
+        final DataView copied = container.getView(of("copy", "bar", "qux")).get();
+        assertEquals(of("copy", "bar", "qux"), copied.getCurrentPath());
+        assertNotSame(source.getView(of("bar", "qux")).get(), copied);
+
+        source.set(of("bar", "qux", "quux"), 3.0D);
+        source.remove(of("bar", "baz"));
+        assertEquals(Optional.of(2.0D), copied.getDouble(of("quux")));
+        assertTrue(container.contains(of("copy", "bar", "baz")));
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        final byte[] array = {1, 2, 3};
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.ALL_DATA_CLONED);
+        container.set(of("foo", "bar"), 1);
+        container.set(of("foo", "array"), array);
+        container.set(of("baz"), "baz");
+
+        final DataContainer copy = container.copy();
+        assertEquals(container.getKeys(true), copy.getKeys(true));
+        assertEquals(Optional.of(1), copy.getInt(of("foo", "bar")));
+        assertArrayEquals(array, (byte[]) copy.get(of("foo", "array")).get());
+        assertEquals(DataView.SafetyMode.ALL_DATA_CLONED, copy.getSafetyMode());
+        assertEquals(DataView.SafetyMode.NO_DATA_CLONED, container.copy(DataView.SafetyMode.NO_DATA_CLONED).getSafetyMode());
+
+        copy.set(of("foo", "bar"), 2);
+        ((byte[]) copy.get(of("foo", "array")).get())[0] = 4;
+        copy.remove(of("baz"));
+        assertEquals(Optional.of(1), container.getInt(of("foo", "bar")));
+        assertArrayEquals(array, (byte[]) container.get(of("foo", "array")).get());
+        assertTrue(container.contains(of("baz")));
+        assertFalse(copy.contains(of("baz")));
+    }
+
 }
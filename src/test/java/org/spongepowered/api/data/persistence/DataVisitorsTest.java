@@ -0,0 +1,65 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+
+public class DataVisitorsTest {
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        final DataContainer container = DataContainer.createNew();
+        container.set(of("foo"), 1);
+        container.set(of("bar", "baz"), "barbaz");
+        container.set(of("bar", "numbers"), new int[] {1, 2, 3});
+        container.set(of("list"), ImmutableList.of("a", "b", "c"));
+        container.set(of("views"), ImmutableList.of(DataContainer.createNew().set(of("x"), 2L)));
+
+        final DataContainerVisitor visitor = new DataContainerVisitor();
+        DataVisitors.visit(container, visitor);
+
+        assertTrue(visitor.getContainer().isPresent());
+        final DataContainer copy = visitor.getContainer().get();
+        assertEquals(container.getKeys(true), copy.getKeys(true));
+        assertEquals(container.getInt(of("foo")), copy.getInt(of("foo")));
+        assertEquals(container.getString(of("bar", "baz")), copy.getString(of("bar", "baz")));
+        assertEquals(container.getStringList(of("list")), copy.getStringList(of("list")));
+        assertEquals(2L, (long) copy.getViewList(of("views")).get().get(0).getLong(of("x")).get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testValueWithoutKey() throws Exception {
+        final DataContainerVisitor visitor = new DataContainerVisitor();
+        visitor.beginView();
+        visitor.value(1);
+    }
+
+}
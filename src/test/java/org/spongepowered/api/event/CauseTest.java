@@ -220,5 +220,48 @@ public void testListedArray() {
         assertThat(stringList.equals(fooList), is(true));
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void testWithDuplicateName() {
+        final Cause cause = Cause.source("foo").build();
+        cause.with(NamedCause.of("bar", 1), NamedCause.of("bar", 2));
+    }
+
+    @Test
+    public void testMerge() {
+        final Cause cause = Cause.source("foo").named("bar", 1).build();
+        final Cause merged = cause.merge(Cause.source("baz").named("bar", 2).build());
+        assertThat(merged.all(), equalTo(ImmutableList.of("foo", 1, "baz", 2)));
+        assertThat(merged.get(NamedCause.SOURCE + "1", String.class), equalTo(Optional.of("baz")));
+        assertThat(merged.get("bar1", Integer.class), equalTo(Optional.of(2)));
+    }
+
+    @Test
+    public void testTypeQueries() {
+        final Cause cause = Cause.source("foo").named("numero1", 1).named("bar", "bar").named("duo", 2).build();
+        assertThat(cause.first(Integer.class), equalTo(Optional.of(1)));
+        assertThat(cause.last(Integer.class), equalTo(Optional.of(2)));
+        assertThat(cause.last(CharSequence.class), equalTo(Optional.of("bar")));
+        assertThat(cause.allOf(Number.class), equalTo(ImmutableList.of(1, 2)));
+        assertThat(cause.containsType(Double.class), is(false));
+        assertThat(cause.first(Double.class).isPresent(), is(false));
+    }
+
+    @Test
+    public void testTypeQueriesOfDerivedCauses() {
+        final Cause cause = Cause.source("foo").named("numero1", 1).build();
+        assertThat(cause.allOf(Number.class), equalTo(ImmutableList.of(1)));
+
+        final Cause with = cause.with(NamedCause.of("bar", "bar"), NamedCause.of("duo", 2));
+        assertThat(with.allOf(Number.class), equalTo(ImmutableList.of(1, 2)));
+        assertThat(with.last(CharSequence.class), equalTo(Optional.of("bar")));
+        assertThat(cause.allOf(Number.class), equalTo(ImmutableList.of(1)));
+
+        final Cause merged = with.merge(Cause.source(3L).named("tres", 3).build());
+        assertThat(merged.allOf(Number.class), equalTo(ImmutableList.of(1, 2, 3L, 3)));
+        assertThat(merged.first(Long.class), equalTo(Optional.of(3L)));
+        assertThat(merged.allOf(Integer.class),
+                equalTo(Cause.source("foo").named("a", 1).named("b", "bar").named("c", 2).named("d", 3L).named("e", 3).build()
+                        .allOf(Integer.class)));
+    }
 
 }
@@ -0,0 +1,221 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.filter.IsCancelled;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.filter.cause.Root;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class SimpleEventManagerTest {
+
+    private final Object testPlugin = new Object();
+    private SimpleEventManager eventManager;
+
+    @Before
+    public void createEventManager() {
+        PluginManager pluginManager = mock(PluginManager.class);
+        PluginContainer testPluginContainer = mock(PluginContainer.class);
+        when(testPluginContainer.getId()).thenReturn("TestPlugin");
+        when(pluginManager.fromInstance(this.testPlugin)).thenReturn(Optional.of(testPluginContainer));
+        this.eventManager = new SimpleEventManager(pluginManager);
+    }
+
+    @Test
+    public void testPostWithoutListeners() {
+        assertFalse(this.eventManager.post(new TestEvent()));
+    }
+
+    @Test
+    public void testListenerOrder() {
+        List<String> calls = new ArrayList<>();
+        this.eventManager.registerListener(this.testPlugin, TestEvent.class, Order.LATE, event -> calls.add("late"));
+        this.eventManager.registerListener(this.testPlugin, Event.class, Order.PRE, event -> calls.add("pre"));
+        this.eventManager.registerListener(this.testPlugin, TestEvent.class, Order.POST, true, event -> calls.add("before"));
+        this.eventManager.registerListener(this.testPlugin, TestEvent.class, event -> calls.add("default"));
+
+        this.eventManager.post(new TestEvent());
+        assertEquals(ImmutableList.of("before", "pre", "default", "late"), calls);
+    }
+
+    @Test
+    public void testRegisterInvalidatesBakedListeners() {
+        List<String> calls = new ArrayList<>();
+        this.eventManager.registerListener(this.testPlugin, TestEvent.class, event -> calls.add("first"));
+        this.eventManager.post(new TestEvent());
+        this.eventManager.registerListener(this.testPlugin, Event.class, event -> calls.add("second"));
+        this.eventManager.post(new TestEvent());
+        assertEquals(ImmutableList.of("first", "first", "second"), calls);
+
+        this.eventManager.unregisterPluginListeners(this.testPlugin);
+        calls.clear();
+        this.eventManager.post(new TestEvent());
+        assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    public void testAnnotatedListeners() {
+        TestListener listener = new TestListener();
+        this.eventManager.registerListeners(this.testPlugin, listener);
+
+        TestEvent event = new TestEvent();
+        assertTrue(this.eventManager.post(event));
+        assertEquals(ImmutableList.of("cancel", "cancelled", "always"), listener.calls);
+
+        this.eventManager.unregisterListeners(listener);
+        listener.calls.clear();
+        this.eventManager.post(new TestEvent());
+        assertTrue(listener.calls.isEmpty());
+    }
+
+    @Test
+    public void testFilteredListeners() {
+        FilteredListener listener = new FilteredListener();
+        this.eventManager.registerListeners(this.testPlugin, listener);
+
+        this.eventManager.post(new TestEvent());
+        assertEquals(ImmutableList.of("root test", "first test", "all test false test"), listener.calls);
+    }
+
+    @Test
+    public void testNonPublicListenerClass() {
+        PackagePrivateListener listener = new PackagePrivateListener();
+        this.eventManager.registerListeners(this.testPlugin, listener);
+
+        this.eventManager.post(new TestEvent());
+        assertEquals(ImmutableList.of("called"), listener.calls);
+    }
+
+    public static class FilteredListener {
+
+        final List<String> calls = new ArrayList<>();
+
+        @Listener(order = Order.EARLY)
+        public void onRoot(TestEvent event, @Root String root) {
+            this.calls.add("root " + root);
+        }
+
+        @Listener
+        public void onFirst(TestEvent event, @First CharSequence first) {
+            this.calls.add("first " + first);
+        }
+
+        @Listener
+        public void onMissing(TestEvent event, @First Integer first) {
+            this.calls.add("missing " + first);
+        }
+
+        @Listener(order = Order.LATE)
+        public void onAll(TestEvent event, @Root String root, @Getter("isCancelled") boolean cancelled, @First CharSequence first) {
+            this.calls.add("all " + root + " " + cancelled + " " + first);
+        }
+
+        @Listener(order = Order.LATE)
+        public void onMissingLast(TestEvent event, @Root String root, @First Integer first) {
+            this.calls.add("missing last " + root + " " + first);
+        }
+
+    }
+
+    public static class TestListener {
+
+        final List<String> calls = new ArrayList<>();
+
+        @Listener(order = Order.FIRST)
+        public void onEvent(TestEvent event) {
+            this.calls.add("cancel");
+            event.setCancelled(true);
+        }
+
+        @Listener
+        public void onNotCancelled(TestEvent event) {
+            this.calls.add("not cancelled");
+        }
+
+        @Listener(order = Order.LATE)
+        @IsCancelled
+        public void onCancelled(TestEvent event) {
+            this.calls.add("cancelled");
+        }
+
+        @Listener(order = Order.POST)
+        @IsCancelled(Tristate.UNDEFINED)
+        public void onAlways(TestEvent event) {
+            this.calls.add("always");
+        }
+
+    }
+
+    static class PackagePrivateListener {
+
+        final List<String> calls = new ArrayList<>();
+
+        @Listener
+        public void onEvent(TestEvent event) {
+            this.calls.add("called");
+        }
+
+    }
+
+    public static class TestEvent implements Event, Cancellable {
+
+        private final Cause cause = Cause.source("test").build();
+        private boolean cancelled;
+
+        @Override
+        public Cause getCause() {
+            return this.cause;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+
+    }
+
+}
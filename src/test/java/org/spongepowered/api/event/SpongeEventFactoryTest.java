@@ -47,6 +47,7 @@
 import org.spongepowered.api.event.entity.ai.AITaskEvent;
 import org.spongepowered.api.event.impl.AbstractEvent;
 import org.spongepowered.api.text.Text;
+import org.spongepowered.api.util.DurationHistogram;
 import org.spongepowered.api.util.PEBKACException;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.extent.Extent;
@@ -237,6 +238,8 @@ public static Object mockParam(final Class<?> paramType, @Nullable final Class<?
             return Text.of();
         } else if (paramType == Duration.class) {
             return Duration.ZERO;
+        } else if (paramType == DurationHistogram.class) {
+            return new DurationHistogram();
         } else {
             return mock(paramType, withSettings().defaultAnswer(EVENT_MOCKING_ANSWER));
         }
@@ -0,0 +1,60 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.cause;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class CauseIndexTest {
+
+    @Test
+    public void testIndicesAreShared() {
+        final CauseIndex index = CauseIndex.of(new Object[] {"foo", 1, "bar"});
+        assertSame(index, CauseIndex.of(new Object[] {"baz", 2, "qux"}));
+        assertSame(index, CauseIndex.of(new Object[] {"foo", 1}).with(new Object[] {"bar"}, 0, 1));
+        assertArrayEquals(new int[] {0, 2}, index.positionsOf(CharSequence.class));
+        assertArrayEquals(new int[] {1}, index.positionsOf(Number.class));
+    }
+
+    @Test
+    public void testLongIndicesAreNotShared() {
+        final Object[] objects = new Object[CauseIndex.MAX_SHARED_DEPTH + 2];
+        for (int i = 0; i < objects.length; i++) {
+            objects[i] = i % 2 == 0 ? "foo" : i;
+        }
+        final CauseIndex index = CauseIndex.of(objects);
+        assertNotSame(index, CauseIndex.of(objects));
+        final int[] expected = new int[objects.length / 2];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i * 2 + 1;
+        }
+        assertArrayEquals(expected, index.positionsOf(Integer.class));
+        assertArrayEquals(expected, CauseIndex.of(objects).positionsOf(Number.class));
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.extra.modifier.skylands;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.util.test.TestHooks;
+import org.spongepowered.api.world.World;
+import org.spongepowered.api.world.extent.ImmutableBiomeVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.storage.WorldProperties;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class SkylandsTerrainGeneratorTest {
+
+    private static final int CHUNKS = 8;
+    private static final long[] SEEDS = {0, 8675309, -4623985620948L};
+
+    private ImmutableBiomeVolume biomes;
+
+    @Before
+    public void initialize() throws Exception {
+        this.biomes = mock(ImmutableBiomeVolume.class);
+        for (String name : new String[] {"STONE", "DIAMOND_ORE", "GOLD_ORE", "REDSTONE_ORE", "IRON_ORE", "COAL_ORE"}) {
+            final BlockType type = mock(BlockType.class);
+            when(type.getName()).thenReturn(name);
+            TestHooks.setCatalogElement(BlockTypes.class, name, type);
+        }
+    }
+
+    @Test
+    public void testParallelGenerationMatchesSerial() throws Exception {
+        final List<World> worlds = new ArrayList<>();
+        final List<Vector3i> origins = new ArrayList<>();
+        for (long seed : SEEDS) {
+            final WorldProperties properties = mock(WorldProperties.class);
+            when(properties.getSeed()).thenReturn(seed);
+            final World world = mock(World.class);
+            when(world.getProperties()).thenReturn(properties);
+            for (int i = 0; i < CHUNKS; i++) {
+                worlds.add(world);
+                origins.add(new Vector3i((i % 4 - 2) * 16, 0, (i / 4 - 1) * 16));
+            }
+        }
+
+        final SkylandsTerrainGenerator serialGenerator = new SkylandsTerrainGenerator();
+        final List<BlockType[]> serial = new ArrayList<>();
+        for (int i = 0; i < worlds.size(); i++) {
+            serial.add(generate(serialGenerator, this.biomes, worlds.get(i), origins.get(i)));
+        }
+
+        // a single generator shared by all the workers, with the seeds interleaved
+        final SkylandsTerrainGenerator parallelGenerator = new SkylandsTerrainGenerator();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<BlockType[]>> parallel = new ArrayList<>();
+            for (int i = 0; i < worlds.size(); i++) {
+                final World world = worlds.get(i);
+                final Vector3i origin = origins.get(i);
+                parallel.add(executor.submit(() -> generate(parallelGenerator, this.biomes, world, origin)));
+            }
+            for (int i = 0; i < worlds.size(); i++) {
+                Assert.assertArrayEquals("Chunk " + i + " differs", serial.get(i), parallel.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static BlockType[] generate(SkylandsTerrainGenerator generator, ImmutableBiomeVolume biomes, World world, Vector3i origin) {
+        final BlockBuffer buffer = new BlockBuffer(origin, new Vector3i(16, 128, 16));
+        generator.populate(world, buffer.asVolume(), biomes);
+        return buffer.blocks;
+    }
+
+    /**
+     * A minimal array backed block buffer that doesn't record invocations the
+     * way a mock would, so it can be used from several threads.
+     */
+    private static final class BlockBuffer {
+
+        private final Vector3i min;
+        private final Vector3i size;
+        private final BlockType[] blocks;
+
+        BlockBuffer(Vector3i min, Vector3i size) {
+            this.min = min;
+            this.size = size;
+            this.blocks = new BlockType[size.getX() * size.getY() * size.getZ()];
+        }
+
+        private int index(Object[] args) {
+            final int x = (int) args[0] - this.min.getX();
+            final int y = (int) args[1] - this.min.getY();
+            final int z = (int) args[2] - this.min.getZ();
+            return SkylandsUtil.index3D(x, y, z, this.size.getX(), this.size.getY());
+        }
+
+        MutableBlockVolume asVolume() {
+            return (MutableBlockVolume) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {MutableBlockVolume.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "getBlockMin":
+                                return this.min;
+                            case "getBlockMax":
+                                return this.min.add(this.size).sub(Vector3i.ONE);
+                            case "getBlockSize":
+                                return this.size;
+                            case "getBlockType":
+                                return this.blocks[index(args)];
+                            case "setBlockType":
+                                this.blocks[index(args)] = (BlockType) args[3];
+                                return true;
+                            default:
+                                throw new UnsupportedOperationException(method.toString());
+                        }
+                    });
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.extra.modifier.skylands;
+
+import static org.junit.Assert.assertEquals;
+
+import com.flowpowered.math.GenericMath;
+import com.flowpowered.math.vector.Vector3i;
+import com.flowpowered.noise.module.Module;
+import com.flowpowered.noise.module.source.Perlin;
+import org.junit.Test;
+
+public class SkylandsUtilTest {
+
+    @Test
+    public void testFastNoiseMatchesTriLerp() {
+        final Perlin perlin = new Perlin();
+        perlin.setSeed(8675309);
+        perlin.setFrequency(0.05);
+        assertFastNoiseMatchesTriLerp(perlin, new Vector3i(4, 8, 4), -37, 5, 112, 16, 32, 16);
+        assertFastNoiseMatchesTriLerp(perlin, new Vector3i(2, 3, 5), 19, -8, -64, 10, 9, 15);
+    }
+
+    private static void assertFastNoiseMatchesTriLerp(Module noise, Vector3i samplingRate, int x, int y, int z, int xSize, int ySize,
+            int zSize) {
+        final double[] actual = SkylandsUtil.fastNoise(noise, samplingRate, x, y, z, xSize, ySize, zSize);
+        final int rateX = samplingRate.getX();
+        final int rateY = samplingRate.getY();
+        final int rateZ = samplingRate.getZ();
+        for (int zz = 0; zz < zSize; zz++) {
+            final int z1 = zz - zz % rateZ;
+            final int z2 = z1 + rateZ;
+            for (int yy = 0; yy < ySize; yy++) {
+                final int y1 = yy - yy % rateY;
+                final int y2 = y1 + rateY;
+                for (int xx = 0; xx < xSize; xx++) {
+                    final int x1 = xx - xx % rateX;
+                    final int x2 = x1 + rateX;
+                    final double expected = GenericMath.triLerp(xx, yy, zz,
+                            noise.getValue(x + x1, y + y1, z + z1), noise.getValue(x + x1, y + y2, z + z1),
+                            noise.getValue(x + x1, y + y1, z + z2), noise.getValue(x + x1, y + y2, z + z2),
+                            noise.getValue(x + x2, y + y1, z + z1), noise.getValue(x + x2, y + y2, z + z1),
+                            noise.getValue(x + x2, y + y1, z + z2), noise.getValue(x + x2, y + y2, z + z2),
+                            x1, x2, y1, y2, z1, z2);
+                    // the interpolation must not change the generated terrain, so no tolerance
+                    assertEquals("(" + xx + ", " + yy + ", " + zz + ")", expected,
+                            actual[SkylandsUtil.index3D(xx, yy, zz, xSize + 1, ySize + 1)], 0);
+                }
+            }
+        }
+    }
+
+}
@@ -26,6 +26,7 @@
 
 import static org.junit.Assert.assertEquals;
 
+import com.google.common.collect.ImmutableMap;
 import org.junit.Test;
 import org.spongepowered.api.util.Tristate;
 
@@ -107,4 +108,50 @@ public void testCreateFromValues() throws Exception {
         assertEquals(Tristate.FALSE, nodes.get("generate.thunderstorm.explosive"));
         assertEquals(Tristate.UNDEFINED, nodes.get("random.perm"));
     }
+
+    @Test
+    public void testWithValueResetsParents() throws Exception {
+        final Map<String, Boolean> testPermissions = new HashMap<>();
+        testPermissions.put("generate", false);
+        testPermissions.put("generate.sunset", true);
+
+        NodeTree oldTree = NodeTree.of(testPermissions);
+        NodeTree newTree = oldTree.withValue("generate.rainbow.double", Tristate.TRUE);
+
+        assertEquals(Tristate.FALSE, oldTree.get("generate.rainbow"));
+        assertEquals(Tristate.UNDEFINED, newTree.get("generate"));
+        assertEquals(Tristate.UNDEFINED, newTree.get("generate.rainbow"));
+        assertEquals(Tristate.TRUE, newTree.get("generate.rainbow.double"));
+        assertEquals(Tristate.TRUE, newTree.get("generate.sunset"));
+
+        newTree = newTree.withValue("generate.rainbow.double", Tristate.UNDEFINED);
+        assertEquals(ImmutableMap.of("generate.sunset", true), newTree.asMap());
+    }
+
+    @Test
+    public void testCaseInsensitive() throws Exception {
+        final Map<String, Boolean> testPermissions = new HashMap<>();
+        testPermissions.put("Generate.Rainbow", true);
+
+        NodeTree nodes = NodeTree.of(testPermissions).withValue("GENERATE.sunset", Tristate.FALSE);
+
+        assertEquals(Tristate.TRUE, nodes.get("generate.rainbow"));
+        assertEquals(Tristate.TRUE, nodes.get("GENERATE.RAINBOW.double"));
+        assertEquals(Tristate.FALSE, nodes.get("generate.Sunset"));
+        assertEquals(Tristate.UNDEFINED, nodes.get("generate"));
+    }
+
+    @Test
+    public void testDefaultValue() throws Exception {
+        final Map<String, Boolean> testPermissions = new HashMap<>();
+        testPermissions.put("generate.rainbow", false);
+
+        NodeTree nodes = NodeTree.of(testPermissions, Tristate.TRUE);
+
+        assertEquals(Tristate.FALSE, nodes.get("generate.rainbow"));
+        // The value of the root node is not inherited by undefined nodes
+        assertEquals(Tristate.UNDEFINED, nodes.get("generate"));
+        assertEquals(Tristate.UNDEFINED, nodes.get("random.perm"));
+        assertEquals(Tristate.UNDEFINED, nodes.withValue("generate.sunset", Tristate.TRUE).get("random.perm"));
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.text.format.TextColor;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.api.text.format.TextStyle;
+import org.spongepowered.api.text.format.TextStyles;
+import org.spongepowered.api.text.serializer.TextSerializers;
+import org.spongepowered.api.util.test.TestHooks;
+
+import java.util.Optional;
+
+public class TextTemplateTest {
+
+    private TextTemplate template;
+
+    @Before
+    public void initialize() throws Exception {
+        TestPlainTextSerializer.inject();
+        TestHooks.mockFields(TextColors.class, TextColor.class);
+        TestHooks.mockFields(TextStyles.class, TextStyle.class);
+        this.template = TextTemplate.of(Text.of(TextColors.GRAY, "Hello "), TextTemplate.arg("name").color(TextColors.GREEN),
+                ", you have ", TextTemplate.arg("coins").optional(), " coins", TextTemplate.arg("name"));
+    }
+
+    @Test
+    public void testSlots() {
+        TextTemplate.Compiled compiled = this.template.compile();
+        assertThat(compiled.getSlotNames(), is(ImmutableList.of("name", "coins")));
+        assertThat(compiled.getSlot("coins"), is(Optional.of(1)));
+        assertThat(compiled.getSlot("other"), is(Optional.empty()));
+    }
+
+    @Test
+    public void testApplySlots() {
+        Text expected = Text.of(TextColors.GRAY, "Hello ").toBuilder()
+                .append(Text.builder().color(TextColors.GREEN).append(Text.of("Bob")).build())
+                .append(Text.of(", you have "))
+                .append(Text.builder().append(Text.of("5")).build())
+                .append(Text.of(" coins"))
+                .append(Text.builder().append(Text.of("Bob")).build())
+                .build();
+        assertThat(this.template.compile().apply(Text.of("Bob"), 5).build(), is(expected));
+        assertThat(this.template.apply(ImmutableMap.of("name", Text.of("Bob"), "coins", 5)).build(), is(expected));
+        assertThat(expected.toPlain(), is("Hello Bob, you have 5 coinsBob"));
+    }
+
+    @Test
+    public void testApplyOptionalSlot() {
+        Text expected = Text.of(TextColors.GRAY, "Hello ").toBuilder()
+                .append(Text.builder().color(TextColors.GREEN).append(Text.of("Bob")).build())
+                .append(Text.of(", you have "))
+                .append(Text.of(" coins"))
+                .append(Text.builder().append(Text.of("Bob")).build())
+                .build();
+        assertThat(this.template.compile().apply("Bob").build(), is(expected));
+        assertThat(this.template.compile().apply("Bob", null).build(), is(expected));
+        assertThat(this.template.apply(ImmutableMap.of("name", "Bob")).build(), is(expected));
+    }
+
+    @Test
+    public void testApplyLeadingOptionalSlot() {
+        TextTemplate template = TextTemplate.of(TextTemplate.arg("prefix").optional(), Text.of(TextColors.GRAY, "Hi "),
+                TextTemplate.arg("name"));
+        // The first constant text becomes the root while no argument was applied
+        Text expected = Text.of(TextColors.GRAY, "Hi ").toBuilder()
+                .append(Text.builder().append(Text.of("Bob")).build())
+                .build();
+        assertThat(template.compile().apply(null, "Bob").build(), is(expected));
+        assertThat(template.apply(ImmutableMap.of("name", "Bob")).build(), is(expected));
+
+        expected = Text.builder()
+                .append(Text.builder().append(Text.of("> ")).build())
+                .append(Text.of(TextColors.GRAY, "Hi "))
+                .append(Text.builder().append(Text.of("Bob")).build())
+                .build();
+        assertThat(template.compile().apply("> ", "Bob").build(), is(expected));
+    }
+
+    @Test(expected = TextTemplateArgumentException.class)
+    public void testApplyMissingSlot() {
+        this.template.compile().apply();
+    }
+
+    @Test
+    public void testSerializePlain() {
+        StringBuilder out = new StringBuilder();
+        this.template.compile().serialize(TextSerializers.PLAIN, out, Text.of("Bob"), 5);
+        assertThat(out.toString(), is("Hello Bob, you have 5 coinsBob"));
+    }
+
+}
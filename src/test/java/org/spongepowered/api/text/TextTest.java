@@ -29,16 +29,26 @@
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.spongepowered.api.text.action.TextActions.insertText;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.spongepowered.api.scoreboard.Score;
 import org.spongepowered.api.text.format.TextColor;
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.api.text.format.TextStyle;
 import org.spongepowered.api.text.format.TextStyles;
+import org.spongepowered.api.text.serializer.TextSerializer;
+import org.spongepowered.api.text.translation.Translation;
 import org.spongepowered.api.util.test.TestHooks;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class TextTest {
 
     @Before
@@ -59,6 +69,79 @@ public void testTextOf() {
         assertThat(text.getChildren(), empty());
     }
 
+    @Test
+    public void testVisitor() {
+        Text text = Text.builder("a").append(Text.builder("b").append(Text.of("c")).build(), Text.of("d")).build();
+        List<String> visited = new ArrayList<>();
+        text.accept(new TextVisitor() {
+            @Override
+            public boolean enter(Text text) {
+                visited.add("enter " + text.toPlainSingle());
+                return !text.toPlainSingle().equals("d");
+            }
+
+            @Override
+            public void content(Text text) {
+                visited.add(text.toPlainSingle());
+            }
+
+            @Override
+            public void leave(Text text) {
+                visited.add("leave " + text.toPlainSingle());
+            }
+        });
+        assertThat(visited.toString(), is("[enter a, a, enter b, b, enter c, c, leave c, leave b, enter d, leave a]"));
+    }
+
+    @Test
+    public void testDeeplyNestedChildren() {
+        Text text = Text.of("0");
+        for (int i = 1; i < 10000; i++) {
+            text = Text.builder(String.valueOf(i)).append(text).build();
+        }
+        int count = 0;
+        for (Text child : text.withChildren()) {
+            assertThat(child.toPlainSingle(), is(String.valueOf(9999 - count)));
+            count++;
+        }
+        assertThat(count, is(10000));
+    }
+
+    @Test
+    public void testSerializeIsRemembered() {
+        Text text = Text.of(TextColors.RED, "Red", TextColors.YELLOW, "Yellow");
+        TextSerializer serializer = mock(TextSerializer.class);
+        when(serializer.serialize(text)).thenReturn("serialized");
+
+        assertThat(text.serialize(serializer), is("serialized"));
+        assertThat(text.serialize(serializer), is("serialized"));
+        assertThat(text.toPlain(), is("RedYellow"));
+        assertThat(text.serialize(serializer), is("serialized"));
+        verify(serializer, times(1)).serialize(text);
+    }
+
+    @Test
+    public void testSerializeScoreIsNotRemembered() {
+        Text text = Text.of("Score: ", Text.of(mock(Score.class)));
+        TextSerializer serializer = mock(TextSerializer.class);
+        when(serializer.serialize(text)).thenReturn("serialized");
+
+        text.serialize(serializer);
+        text.serialize(serializer);
+        verify(serializer, times(2)).serialize(text);
+    }
+
+    @Test
+    public void testSerializeTranslationIsNotRemembered() {
+        Text text = Text.of("Hello ", Text.of(mock(Translation.class), "Bob"));
+        TextSerializer serializer = mock(TextSerializer.class);
+        when(serializer.serialize(text)).thenReturn("serialized");
+
+        text.serialize(serializer);
+        text.serialize(serializer);
+        verify(serializer, times(2)).serialize(text);
+    }
+
     @Test
     public void testNestedTextOf() {
         Text text = Text.of(TextColors.RED, "Red", TextColors.YELLOW, "Yellow");
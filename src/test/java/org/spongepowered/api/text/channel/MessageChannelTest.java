@@ -0,0 +1,82 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.channel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.chat.ChatType;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+public class MessageChannelTest {
+
+    @Test
+    public void testTransformMessagesGroupsRecipients() {
+        final MessageReceiver first = mock(MessageReceiver.class);
+        final MessageReceiver second = mock(MessageReceiver.class);
+        final MessageReceiver transformed = mock(MessageReceiver.class);
+        final MessageReceiver excluded = mock(MessageReceiver.class);
+        final Text original = Text.of("Hello");
+        final Text other = Text.of("Bye");
+        final MessageChannel channel = new MessageChannel() {
+            @Override
+            public Optional<Text> transformMessage(@Nullable Object sender, MessageReceiver recipient, Text original, ChatType type) {
+                if (recipient == transformed) {
+                    return Optional.of(other);
+                }
+                return recipient == excluded ? Optional.empty() : Optional.of(original);
+            }
+
+            @Override
+            public Collection<MessageReceiver> getMembers() {
+                return ImmutableSet.of(first, transformed, second, excluded);
+            }
+        };
+
+        final List<MessageGroup> groups = channel.transformMessages(null, original, mock(ChatType.class));
+        assertEquals(2, groups.size());
+        assertSame(original, groups.get(0).getMessage());
+        assertEquals(ImmutableList.of(first, second), groups.get(0).getReceivers());
+        assertSame(other, groups.get(1).getMessage());
+        assertEquals(ImmutableList.of(transformed), groups.get(1).getReceivers());
+
+        channel.send(original);
+        verify(first).sendMessage(original);
+        verify(second).sendMessage(original);
+        verify(transformed).sendMessage(other);
+    }
+
+}
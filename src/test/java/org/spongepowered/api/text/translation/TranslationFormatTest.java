@@ -0,0 +1,71 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.translation;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+
+public class TranslationFormatTest {
+
+    private static void assertFormat(String format, Object... args) {
+        assertEquals(String.format(Locale.ROOT, format, args), new TranslationFormat(format).format(Locale.ROOT, args));
+    }
+
+    @Test
+    public void testSimpleFormats() {
+        assertFormat("No arguments");
+        assertFormat("100%% done%n");
+        assertFormat("%s and %s", "first", "second");
+        assertFormat("%2$s before %1$s, then %s", "first", "second");
+        assertFormat("%s is null", (Object) null);
+        assertFormat("Extra arguments %s", "used", "ignored");
+    }
+
+    @Test
+    public void testOtherFormats() {
+        assertFormat("%d items", 5);
+        assertFormat("%5s|%-5s|", "a", "b");
+        assertFormat("%.2f%%", 1.2345);
+        assertFormat("%S", "upper");
+    }
+
+    @Test
+    public void testFormattable() {
+        Formattable formattable = (Formatter formatter, int flags, int width, int precision) -> formatter.format("formatted");
+        assertFormat("%s!", formattable);
+    }
+
+    @Test(expected = MissingFormatArgumentException.class)
+    public void testMissingArgument() {
+        new TranslationFormat("%s and %s").format(Locale.ROOT, "first");
+    }
+
+}
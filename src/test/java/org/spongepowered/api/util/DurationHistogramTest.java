@@ -0,0 +1,86 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Random;
+
+public class DurationHistogramTest {
+
+    @Test
+    public void testBuckets() {
+        final Random random = new Random(0);
+        for (int i = 0; i < 10000; i++) {
+            final long nanos = random.nextLong() >>> 2 >>> random.nextInt(62);
+            final int bucket = DurationHistogram.bucket(nanos);
+            final long lower = DurationHistogram.lowerBound(bucket);
+            Assert.assertTrue(lower <= nanos);
+            Assert.assertTrue(nanos < DurationHistogram.lowerBound(bucket + 1));
+            Assert.assertTrue(DurationHistogram.lowerBound(bucket + 1) - lower <= Math.max(1, lower / 4));
+        }
+        Assert.assertEquals(0, DurationHistogram.bucket(0));
+        Assert.assertEquals(7, DurationHistogram.bucket(7));
+    }
+
+    @Test
+    public void testStatistics() {
+        final DurationHistogram histogram = new DurationHistogram();
+        Assert.assertEquals(Duration.ZERO, histogram.getMean());
+        Assert.assertEquals(Duration.ZERO, histogram.getPercentile(50));
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(Duration.ofMillis(i));
+        }
+        Assert.assertEquals(100, histogram.getCount());
+        Assert.assertEquals(Duration.ofMillis(5050), histogram.getTotal());
+        Assert.assertEquals(Duration.ofNanos(50500000), histogram.getMean());
+        Assert.assertEquals(Duration.ofMillis(100), histogram.getMax());
+        Assert.assertEquals(Duration.ofMillis(100), histogram.getPercentile(100));
+        final long median = histogram.getPercentile(50).toNanos();
+        Assert.assertTrue(median >= Duration.ofMillis(50).toNanos() && median <= Duration.ofMillis(50).toNanos() * 5 / 4);
+    }
+
+    @Test
+    public void testCopyAndMerge() {
+        final DurationHistogram histogram = new DurationHistogram();
+        histogram.record(10);
+        final DurationHistogram copy = histogram.copy();
+        histogram.record(20);
+        Assert.assertEquals(1, copy.getCount());
+        Assert.assertEquals(Duration.ofNanos(10), copy.getMax());
+        copy.merge(histogram);
+        Assert.assertEquals(3, copy.getCount());
+        Assert.assertEquals(Duration.ofNanos(40), copy.getTotal());
+        Assert.assertEquals(Duration.ofNanos(20), copy.getMax());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeDuration() {
+        new DurationHistogram().record(-1);
+    }
+
+}
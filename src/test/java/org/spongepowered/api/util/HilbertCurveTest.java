@@ -0,0 +1,57 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util;
+
+import com.flowpowered.math.vector.Vector2i;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HilbertCurveTest {
+
+    @Test
+    public void testCurve() {
+        for (int order = 0; order <= 5; order++) {
+            final int size = 1 << order;
+            final boolean[] visited = new boolean[size * size];
+            Vector2i previous = null;
+            for (int i = 0; i < size * size; i++) {
+                final Vector2i point = HilbertCurve.getPoint(order, i);
+                Assert.assertEquals(i, HilbertCurve.getIndex(order, point.getX(), point.getY()));
+                Assert.assertFalse(visited[point.getY() * size + point.getX()]);
+                visited[point.getY() * size + point.getX()] = true;
+                if (previous != null) {
+                    Assert.assertEquals(1, Math.abs(point.getX() - previous.getX()) + Math.abs(point.getY() - previous.getY()));
+                }
+                previous = point;
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOutOfRange() {
+        HilbertCurve.getIndex(5, 32, 0);
+    }
+
+}
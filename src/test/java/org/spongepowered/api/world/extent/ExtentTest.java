@@ -0,0 +1,206 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.data.DataTransactionResult;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.util.Axis;
+import org.spongepowered.api.util.DiscreteTransform3;
+import org.spongepowered.api.world.BlockChangeFlag;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class ExtentTest {
+
+    private static final Vector3i VOLUME_MIN = new Vector3i(2, 5, -3);
+    private static final Vector3i VOLUME_MAX = new Vector3i(5, 22, -1);
+
+    private final Cause cause = Cause.source("test").build();
+    private final Map<Vector3i, BlockState> volumeBlocks = new HashMap<>();
+    private final Map<Vector3i, BlockState> extentBlocks = new HashMap<>();
+    private final List<Vector3i> changes = new ArrayList<>();
+    private final Set<Vector3i> failing = new HashSet<>();
+    private BlockVolume volume;
+    private Extent extent;
+
+    @Before
+    public void initialize() {
+        this.volume = mock(BlockVolume.class);
+        when(this.volume.getBlockMin()).thenReturn(VOLUME_MIN);
+        when(this.volume.getBlockMax()).thenReturn(VOLUME_MAX);
+        for (int z = VOLUME_MIN.getZ(); z <= VOLUME_MAX.getZ(); z++) {
+            for (int y = VOLUME_MIN.getY(); y <= VOLUME_MAX.getY(); y++) {
+                for (int x = VOLUME_MIN.getX(); x <= VOLUME_MAX.getX(); x++) {
+                    this.volumeBlocks.put(new Vector3i(x, y, z), mock(BlockState.class));
+                }
+            }
+        }
+        when(this.volume.containsBlock(anyInt(), anyInt(), anyInt())).thenAnswer(invocation ->
+                this.volumeBlocks.containsKey(new Vector3i(invocation.<Integer>getArgument(0), invocation.<Integer>getArgument(1),
+                        invocation.<Integer>getArgument(2))));
+        when(this.volume.getBlock(anyInt(), anyInt(), anyInt())).thenAnswer(invocation ->
+                this.volumeBlocks.get(new Vector3i(invocation.<Integer>getArgument(0), invocation.<Integer>getArgument(1),
+                        invocation.<Integer>getArgument(2))));
+
+        this.extent = mock(Extent.class);
+        when(this.extent.getBlockMin()).thenReturn(new Vector3i(-100, 0, -100));
+        when(this.extent.getBlockMax()).thenReturn(new Vector3i(100, 255, 100));
+        when(this.extent.setBlock(anyInt(), anyInt(), anyInt(), any(BlockState.class), any(BlockChangeFlag.class), any(Cause.class)))
+                .thenAnswer(invocation -> {
+                    final Vector3i position = new Vector3i(invocation.<Integer>getArgument(0), invocation.<Integer>getArgument(1),
+                            invocation.<Integer>getArgument(2));
+                    this.changes.add(position);
+                    this.extentBlocks.put(position, invocation.getArgument(3));
+                    return !this.failing.contains(position);
+                });
+        when(this.extent.setBlocks(any(BlockVolume.class), any(DiscreteTransform3.class), any(BlockChangeFlag.class), any(Cause.class)))
+                .thenCallRealMethod();
+        when(this.extent.setBlocks(any(BlockVolume.class), any(Vector3i.class), any(BlockChangeFlag.class), any(Cause.class)))
+                .thenCallRealMethod();
+    }
+
+    @Test
+    public void testSetBlocksTranslation() {
+        final Map<Vector3i, DataTransactionResult> results =
+                this.extent.setBlocks(this.volume, new Vector3i(-20, 60, 14), BlockChangeFlag.ALL, this.cause);
+        assertTransformed(DiscreteTransform3.fromTranslation(new Vector3i(-20, 60, 14).sub(VOLUME_MIN)), results);
+    }
+
+    @Test
+    public void testSetBlocksRotation() {
+        for (Axis axis : Axis.values()) {
+            for (int quarterTurns = 1; quarterTurns < 4; quarterTurns++) {
+                final DiscreteTransform3 transform = DiscreteTransform3.fromRotation(quarterTurns, axis, new Vector3i(3, 12, -2), false)
+                        .withTranslation(0, 40, 0);
+                assertTransformed(transform, this.extent.setBlocks(this.volume, transform, BlockChangeFlag.ALL, this.cause));
+            }
+        }
+    }
+
+    @Test
+    public void testSetBlocksScaling() {
+        final DiscreteTransform3 transform = DiscreteTransform3.fromScale(2, 3, -2).withTranslation(-7, 0, 9);
+        assertTransformed(transform, this.extent.setBlocks(this.volume, transform, BlockChangeFlag.ALL, this.cause));
+    }
+
+    @Test
+    public void testSetBlocksOutsideExtent() {
+        final Map<Vector3i, DataTransactionResult> results =
+                this.extent.setBlocks(this.volume, new Vector3i(98, 250, -1), BlockChangeFlag.ALL, this.cause);
+        for (Vector3i position : this.changes) {
+            assertTrue(position.getX() <= 100 && position.getY() <= 255);
+        }
+        assertEquals(3 * 6 * 3, this.changes.size());
+        assertEquals(2, results.size());
+    }
+
+    @Test
+    public void testSetBlocksFailure() {
+        this.failing.add(new Vector3i(17, 60, 1));
+        final Map<Vector3i, DataTransactionResult> results =
+                this.extent.setBlocks(this.volume, new Vector3i(14, 60, -1), BlockChangeFlag.ALL, this.cause);
+        assertEquals(DataTransactionResult.Type.ERROR, results.get(new Vector3i(1, 0, 0)).getType());
+        assertEquals(DataTransactionResult.Type.SUCCESS, results.get(new Vector3i(0, 0, 0)).getType());
+        assertEquals(DataTransactionResult.Type.SUCCESS, results.get(new Vector3i(0, 0, -1)).getType());
+        assertEquals(4, results.size());
+    }
+
+    @Test
+    public void testSetBlocksChunkFailure() {
+        // Every block copied into chunk (1, 0, 0)
+        for (int z = 0; z <= 1; z++) {
+            for (int y = 60; y <= 77; y++) {
+                for (int x = 16; x <= 17; x++) {
+                    this.failing.add(new Vector3i(x, y, z));
+                }
+            }
+        }
+        final Map<Vector3i, DataTransactionResult> results =
+                this.extent.setBlocks(this.volume, new Vector3i(14, 60, -1), BlockChangeFlag.ALL, this.cause);
+        assertEquals(DataTransactionResult.Type.FAILURE, results.get(new Vector3i(1, 0, 0)).getType());
+        assertEquals(DataTransactionResult.Type.SUCCESS, results.get(new Vector3i(1, 0, -1)).getType());
+        assertEquals(DataTransactionResult.Type.SUCCESS, results.get(new Vector3i(0, 0, 0)).getType());
+    }
+
+    @Test
+    public void testSetBlocksBySection() {
+        final DiscreteTransform3 transform = DiscreteTransform3.fromTranslation(12, 7, 17);
+        BlockVolumeCopy.copy(this.extent, this.volume, transform, BlockChangeFlag.ALL, this.cause, new Vector3i(16, 256, 16));
+        // Every section is only visited once, all of its blocks in one go
+        final Set<Vector3i> finished = new HashSet<>();
+        Vector3i current = null;
+        for (Vector3i position : this.changes) {
+            final Vector3i section = new Vector3i(Math.floorDiv(position.getX(), 16), Math.floorDiv(position.getY(),
+                    BlockVolumeCopy.SECTION_HEIGHT), Math.floorDiv(position.getZ(), 16));
+            if (!section.equals(current)) {
+                assertFalse(finished.contains(section));
+                if (current != null) {
+                    finished.add(current);
+                }
+                current = section;
+            }
+        }
+        finished.add(current);
+        assertEquals(8, finished.size());
+        assertEquals(this.volumeBlocks.size(), this.changes.size());
+    }
+
+    private void assertTransformed(DiscreteTransform3 transform, Map<Vector3i, DataTransactionResult> results) {
+        final Map<Vector3i, BlockState> expected = new HashMap<>();
+        final Set<Vector3i> chunks = new HashSet<>();
+        for (Map.Entry<Vector3i, BlockState> entry : this.volumeBlocks.entrySet()) {
+            final Vector3i position = transform.transform(entry.getKey());
+            expected.put(position, entry.getValue());
+            chunks.add(new Vector3i(Math.floorDiv(position.getX(), 16), 0, Math.floorDiv(position.getZ(), 16)));
+        }
+        assertEquals(this.volumeBlocks.size(), expected.size());
+        assertEquals(expected, this.extentBlocks);
+        assertEquals(expected.size(), this.changes.size());
+        assertEquals(chunks, results.keySet());
+        for (DataTransactionResult result : results.values()) {
+            assertEquals(DataTransactionResult.Type.SUCCESS, result.getType());
+        }
+        this.extentBlocks.clear();
+        this.changes.clear();
+    }
+
+}
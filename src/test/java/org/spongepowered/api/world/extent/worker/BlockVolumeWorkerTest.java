@@ -0,0 +1,270 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Test;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeFiller;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMapper;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMerger;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeReducer;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeVisitor;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.BiFunction;
+
+public class BlockVolumeWorkerTest {
+
+    private static final BlockState[] STATES = {mock(BlockState.class), mock(BlockState.class), mock(BlockState.class), mock(BlockState.class)};
+    private static final Vector3i MIN = new Vector3i(-37, -5, -18);
+    private static final Vector3i SIZE = new Vector3i(58, 12, 41);
+
+    private static final BlockVolumeMapper MAPPER = (volume, x, y, z) -> STATES[Math.floorMod(stateIndex(volume.getBlock(x, y, z)) + x * 3 - z, 4)];
+    private static final BlockVolumeMerger MERGER = (first, x1, y1, z1, second, x2, y2, z2) ->
+            STATES[Math.floorMod(stateIndex(first.getBlock(x1, y1, z1)) * 3 + stateIndex(second.getBlock(x2, y2, z2)) + y1, 4)];
+    private static final BlockVolumeFiller FILLER = (x, y, z) -> STATES[Math.floorMod(x * 7 + y * 5 + z * 3, 4)];
+
+    private final Cause cause = Cause.source("test").build();
+
+    @Test
+    public void testMapParallel() {
+        final ArrayBlockVolume source = filled(MIN);
+        final ArrayBlockVolume sequential = new ArrayBlockVolume(new Vector3i(5, 60, -3), SIZE);
+        final ArrayBlockVolume parallel = new ArrayBlockVolume(new Vector3i(5, 60, -3), SIZE);
+
+        source.getBlockWorker(this.cause).map(MAPPER, sequential.asVolume());
+        source.getBlockWorker(this.cause).mapParallel(MAPPER, parallel.asVolume(), this.cause);
+        assertArrayEquals(sequential.blocks, parallel.blocks);
+
+        final ArrayBlockVolume withCause = new ArrayBlockVolume(new Vector3i(5, 60, -3), SIZE);
+        source.getBlockWorker(this.cause).map(MAPPER, withCause.asVolume(), this.cause);
+        assertArrayEquals(sequential.blocks, withCause.blocks);
+
+        final ArrayBlockVolume inPlace = filled(MIN);
+        inPlace.getBlockWorker(this.cause).mapParallel(MAPPER, this.cause);
+        assertArrayEquals(new ArrayBlockVolume(MIN, SIZE).copyFrom(sequential).blocks, inPlace.blocks);
+    }
+
+    @Test
+    public void testMergeParallel() {
+        final ArrayBlockVolume first = filled(MIN);
+        final ArrayBlockVolume second = new ArrayBlockVolume(new Vector3i(-3, 0, 11), SIZE);
+        second.getBlockWorker(this.cause).fill((x, y, z) -> STATES[Math.floorMod(x - y * 2 + z, 4)], this.cause);
+        final ArrayBlockVolume sequential = new ArrayBlockVolume(new Vector3i(16, 0, -16), SIZE);
+        final ArrayBlockVolume parallel = new ArrayBlockVolume(new Vector3i(16, 0, -16), SIZE);
+
+        first.getBlockWorker(this.cause).merge(second.asVolume(), MERGER, sequential.asVolume());
+        first.getBlockWorker(this.cause).mergeParallel(second.asVolume(), MERGER, parallel.asVolume(), this.cause);
+        assertArrayEquals(sequential.blocks, parallel.blocks);
+
+        final ArrayBlockVolume withCause = new ArrayBlockVolume(new Vector3i(16, 0, -16), SIZE);
+        first.getBlockWorker(this.cause).merge(second.asVolume(), MERGER, withCause.asVolume(), this.cause);
+        assertArrayEquals(sequential.blocks, withCause.blocks);
+    }
+
+    @Test
+    public void testReduceParallel() {
+        final ArrayBlockVolume volume = filled(MIN);
+        final BlockVolumeReducer<Long> reducer = (v, x, y, z, reduction) ->
+                reduction + (stateIndex(v.getBlock(x, y, z)) + 1) * (long) (x * 31 + y * 17 + z * 13);
+        final long sequential = volume.getBlockWorker(this.cause).reduce(reducer, Long::sum, 0L);
+        assertEquals(sequential, (long) volume.getBlockWorker(this.cause).reduceParallel(reducer, Long::sum, 0L));
+    }
+
+    @Test
+    public void testFillAndIterateParallel() {
+        final ArrayBlockVolume parallel = new ArrayBlockVolume(MIN, SIZE);
+        parallel.getBlockWorker(this.cause).fillParallel(FILLER, this.cause);
+        assertArrayEquals(filled(MIN).blocks, parallel.blocks);
+
+        final AtomicIntegerArray counts = new AtomicIntegerArray(parallel.blocks.length);
+        parallel.getBlockWorker(this.cause).iterateParallel((volume, x, y, z) -> counts.incrementAndGet(parallel.index(x, y, z)));
+        for (int i = 0; i < counts.length(); i++) {
+            assertEquals(1, counts.get(i));
+        }
+    }
+
+    private ArrayBlockVolume filled(Vector3i min) {
+        final ArrayBlockVolume volume = new ArrayBlockVolume(min, SIZE);
+        volume.getBlockWorker(this.cause).fill(FILLER, this.cause);
+        return volume;
+    }
+
+    private static int stateIndex(BlockState state) {
+        for (int i = 0; i < STATES.length; i++) {
+            if (STATES[i] == state) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown state");
+    }
+
+    /**
+     * A minimal array backed block volume that doesn't record invocations the
+     * way a mock would, so it can be used from several threads.
+     */
+    private static final class ArrayBlockVolume {
+
+        private final Vector3i min;
+        private final Vector3i max;
+        private final Vector3i size;
+        private final BlockState[] blocks;
+
+        ArrayBlockVolume(Vector3i min, Vector3i size) {
+            this.min = min;
+            this.max = min.add(size).sub(Vector3i.ONE);
+            this.size = size;
+            this.blocks = new BlockState[size.getX() * size.getY() * size.getZ()];
+        }
+
+        int index(int x, int y, int z) {
+            if (x < this.min.getX() || y < this.min.getY() || z < this.min.getZ()
+                    || x > this.max.getX() || y > this.max.getY() || z > this.max.getZ()) {
+                throw new IndexOutOfBoundsException(x + ", " + y + ", " + z);
+            }
+            return ((z - this.min.getZ()) * this.size.getY() + y - this.min.getY()) * this.size.getX() + x - this.min.getX();
+        }
+
+        ArrayBlockVolume copyFrom(ArrayBlockVolume other) {
+            System.arraycopy(other.blocks, 0, this.blocks, 0, this.blocks.length);
+            return this;
+        }
+
+        Worker getBlockWorker(Cause cause) {
+            return new Worker(asVolume(), cause);
+        }
+
+        MutableBlockVolume asVolume() {
+            return (MutableBlockVolume) proxy(MutableBlockVolume.class);
+        }
+
+        private Object proxy(Class<?> type) {
+            return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getBlockMin":
+                        return this.min;
+                    case "getBlockMax":
+                        return this.max;
+                    case "getBlockSize":
+                        return this.size;
+                    case "getBlock":
+                        return this.blocks[index((int) args[0], (int) args[1], (int) args[2])];
+                    case "setBlock":
+                        this.blocks[index((int) args[0], (int) args[1], (int) args[2])] = (BlockState) args[3];
+                        return true;
+                    case "getUnmodifiableBlockView":
+                        return proxy(UnmodifiableBlockVolume.class);
+                    default:
+                        throw new UnsupportedOperationException(method.toString());
+                }
+            });
+        }
+
+    }
+
+    /**
+     * A sequential worker to compare the parallel default methods with.
+     */
+    private static final class Worker implements MutableBlockVolumeWorker<MutableBlockVolume> {
+
+        private final MutableBlockVolume volume;
+        private final Cause cause;
+
+        Worker(MutableBlockVolume volume, Cause cause) {
+            this.volume = volume;
+            this.cause = cause;
+        }
+
+        @Override
+        public MutableBlockVolume getVolume() {
+            return this.volume;
+        }
+
+        @Override
+        public void map(BlockVolumeMapper mapper, MutableBlockVolume destination) {
+            final Vector3i offset = destination.getBlockMin().sub(this.volume.getBlockMin());
+            final UnmodifiableBlockVolume unmodifiable = this.volume.getUnmodifiableBlockView();
+            forEach((x, y, z) -> destination.setBlock(x + offset.getX(), y + offset.getY(), z + offset.getZ(),
+                    mapper.map(unmodifiable, x, y, z), this.cause));
+        }
+
+        @Override
+        public void merge(BlockVolume second, BlockVolumeMerger merger, MutableBlockVolume destination) {
+            final Vector3i secondOffset = second.getBlockMin().sub(this.volume.getBlockMin());
+            final Vector3i offset = destination.getBlockMin().sub(this.volume.getBlockMin());
+            final UnmodifiableBlockVolume first = this.volume.getUnmodifiableBlockView();
+            final UnmodifiableBlockVolume unmodifiableSecond = second.getUnmodifiableBlockView();
+            forEach((x, y, z) -> destination.setBlock(x + offset.getX(), y + offset.getY(), z + offset.getZ(),
+                    merger.merge(first, x, y, z, unmodifiableSecond, x + secondOffset.getX(), y + secondOffset.getY(), z + secondOffset.getZ()),
+                    this.cause));
+        }
+
+        @Override
+        public void iterate(BlockVolumeVisitor<MutableBlockVolume> visitor) {
+            forEach((x, y, z) -> visitor.visit(this.volume, x, y, z));
+        }
+
+        @Override
+        public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T identity) {
+            final UnmodifiableBlockVolume unmodifiable = this.volume.getUnmodifiableBlockView();
+            T reduction = identity;
+            for (int z = this.volume.getBlockMin().getZ(); z <= this.volume.getBlockMax().getZ(); z++) {
+                for (int y = this.volume.getBlockMin().getY(); y <= this.volume.getBlockMax().getY(); y++) {
+                    for (int x = this.volume.getBlockMin().getX(); x <= this.volume.getBlockMax().getX(); x++) {
+                        reduction = reducer.reduce(unmodifiable, x, y, z, reduction);
+                    }
+                }
+            }
+            return reduction;
+        }
+
+        @Override
+        public void fill(BlockVolumeFiller filler, Cause cause) {
+            forEach((x, y, z) -> this.volume.setBlock(x, y, z, filler.produce(x, y, z), cause));
+        }
+
+        private void forEach(VolumePartitions.CoordinateConsumer consumer) {
+            for (int z = this.volume.getBlockMin().getZ(); z <= this.volume.getBlockMax().getZ(); z++) {
+                for (int y = this.volume.getBlockMin().getY(); y <= this.volume.getBlockMax().getY(); y++) {
+                    for (int x = this.volume.getBlockMin().getX(); x <= this.volume.getBlockMax().getX(); x++) {
+                        consumer.accept(x, y, z);
+                    }
+                }
+            }
+        }
+
+    }
+
+}
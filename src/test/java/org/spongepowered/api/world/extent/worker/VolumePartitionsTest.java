@@ -0,0 +1,107 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class VolumePartitionsTest {
+
+    private static final Vector3i CHUNK_SIZE = new Vector3i(16, 256, 16);
+
+    @Test
+    public void testSplitAligned() {
+        assertCoveredOnce(new Vector3i(0, 0, 0), new Vector3i(31, 15, 47), CHUNK_SIZE);
+        assertEquals(6, VolumePartitions.split(new Vector3i(0, 0, 0), new Vector3i(31, 15, 47), CHUNK_SIZE).size());
+    }
+
+    @Test
+    public void testSplitNegativeUnaligned() {
+        assertCoveredOnce(new Vector3i(-37, -5, -18), new Vector3i(20, 7, -1), CHUNK_SIZE);
+        assertCoveredOnce(new Vector3i(-17, 0, -16), new Vector3i(-16, 0, 15), CHUNK_SIZE);
+        assertCoveredOnce(new Vector3i(-40, 3, 5), new Vector3i(-33, 9, 60), new Vector3i(7, 256, 5));
+    }
+
+    @Test
+    public void testSplitWithinChunk() {
+        final List<VolumePartitions.Slab> slabs = VolumePartitions.split(new Vector3i(-5, 1, 3), new Vector3i(-2, 4, 3), CHUNK_SIZE);
+        assertEquals(1, slabs.size());
+        assertCoveredOnce(new Vector3i(-5, 1, 3), new Vector3i(-2, 4, 3), CHUNK_SIZE);
+        assertCoveredOnce(new Vector3i(-9, 0, -9), new Vector3i(-9, 0, -9), CHUNK_SIZE);
+    }
+
+    @Test
+    public void testSplitWithoutServer() {
+        final Vector3i min = new Vector3i(-37, -5, -18);
+        final Vector3i max = new Vector3i(20, 7, 40);
+        assertEquals(VolumePartitions.split(min, max, CHUNK_SIZE).size(), VolumePartitions.split(min, max).size());
+    }
+
+    @Test
+    public void testForEachParallelVisitsOnce() {
+        final Vector3i min = new Vector3i(-37, -5, -18);
+        final Vector3i max = new Vector3i(20, 7, 40);
+        final Vector3i size = max.sub(min).add(Vector3i.ONE);
+        final AtomicIntegerArray counts = new AtomicIntegerArray(size.getX() * size.getY() * size.getZ());
+        VolumePartitions.forEachParallel(min, max, (x, y, z) -> counts.incrementAndGet(index(x, y, z, min, size)));
+        for (int i = 0; i < counts.length(); i++) {
+            assertEquals(1, counts.get(i));
+        }
+    }
+
+    private static void assertCoveredOnce(Vector3i min, Vector3i max, Vector3i chunkSize) {
+        final Vector3i size = max.sub(min).add(Vector3i.ONE);
+        final int[] counts = new int[size.getX() * size.getY() * size.getZ()];
+        for (VolumePartitions.Slab slab : VolumePartitions.split(min, max, chunkSize)) {
+            assertTrue(slab.minX <= slab.maxX && slab.minZ <= slab.maxZ);
+            assertEquals(Math.floorDiv(slab.minX, chunkSize.getX()), Math.floorDiv(slab.maxX, chunkSize.getX()));
+            assertEquals(Math.floorDiv(slab.minZ, chunkSize.getZ()), Math.floorDiv(slab.maxZ, chunkSize.getZ()));
+            assertEquals(min.getY(), slab.minY);
+            assertEquals(max.getY(), slab.maxY);
+            for (int z = slab.minZ; z <= slab.maxZ; z++) {
+                for (int y = slab.minY; y <= slab.maxY; y++) {
+                    for (int x = slab.minX; x <= slab.maxX; x++) {
+                        assertTrue(x >= min.getX() && x <= max.getX() && z >= min.getZ() && z <= max.getZ());
+                        counts[index(x, y, z, min, size)]++;
+                    }
+                }
+            }
+        }
+        for (int count : counts) {
+            assertEquals(1, count);
+        }
+    }
+
+    private static int index(int x, int y, int z, Vector3i min, Vector3i size) {
+        return ((z - min.getZ()) * size.getY() + y - min.getY()) * size.getX() + x - min.getX();
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.gen;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.util.test.TestHooks;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+
+public class SurfaceCacheTest {
+
+    private static final Vector3i MIN = new Vector3i(16, 0, -32);
+    private static final Vector3i SIZE = new Vector3i(4, 16, 4);
+
+    private BlockType air;
+    private BlockType stone;
+    private BlockType[] blocks;
+    private int reads;
+    private MutableBlockVolume buffer;
+    private Cause cause;
+
+    @Before
+    public void initialize() throws Exception {
+        this.air = mock(BlockType.class);
+        this.stone = mock(BlockType.class);
+        TestHooks.setCatalogElement(BlockTypes.class, "AIR", this.air);
+        this.blocks = new BlockType[SIZE.getX() * SIZE.getY() * SIZE.getZ()];
+        Arrays.fill(this.blocks, this.air);
+        this.reads = 0;
+        this.cause = Cause.source(this).build();
+        this.buffer = (MutableBlockVolume) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {MutableBlockVolume.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getBlockMin":
+                            return MIN;
+                        case "getBlockMax":
+                            return MIN.add(SIZE).sub(Vector3i.ONE);
+                        case "getBlockSize":
+                            return SIZE;
+                        case "getBlockType":
+                            this.reads++;
+                            return this.blocks[index(args)];
+                        case "setBlockType":
+                            this.blocks[index(args)] = (BlockType) args[3];
+                            return true;
+                        case "setBlock":
+                            this.blocks[index(args)] = ((BlockState) args[3]).getType();
+                            return true;
+                        default:
+                            throw new UnsupportedOperationException(method.toString());
+                    }
+                });
+    }
+
+    private static int index(Object[] args) {
+        final int x = (int) args[0] - MIN.getX();
+        final int y = (int) args[1] - MIN.getY();
+        final int z = (int) args[2] - MIN.getZ();
+        return (z * SIZE.getY() + y) * SIZE.getX() + x;
+    }
+
+    @Test
+    public void testSurfaceIsLookedUpOnce() {
+        this.buffer.setBlockType(17, 5, -30, this.stone, this.cause);
+        final SurfaceCache surfaces = new SurfaceCache(this.buffer);
+        Assert.assertEquals(5, surfaces.getSurface(17, -30));
+        final int reads = this.reads;
+        Assert.assertEquals(5, surfaces.getSurface(17, -30));
+        Assert.assertEquals(reads, this.reads);
+        Assert.assertEquals(-1, surfaces.getSurface(16, -32));
+    }
+
+    @Test
+    public void testWritesUpdateSurface() {
+        this.buffer.setBlockType(17, 5, -30, this.stone, this.cause);
+        this.buffer.setBlockType(17, 3, -30, this.stone, this.cause);
+        final SurfaceCache surfaces = new SurfaceCache(this.buffer);
+        Assert.assertEquals(5, surfaces.getSurface(17, -30));
+        surfaces.setBlockType(17, 9, -30, this.stone, this.cause);
+        Assert.assertEquals(9, surfaces.getSurface(17, -30));
+        surfaces.setBlockType(17, 9, -30, this.air, this.cause);
+        Assert.assertEquals(5, surfaces.getSurface(17, -30));
+        final BlockState airState = mock(BlockState.class);
+        when(airState.getType()).thenReturn(this.air);
+        surfaces.setBlock(17, 5, -30, airState, this.cause);
+        Assert.assertEquals(3, surfaces.getSurface(17, -30));
+    }
+
+    @Test
+    public void testInvalidate() {
+        final SurfaceCache surfaces = new SurfaceCache(this.buffer);
+        Assert.assertEquals(-1, surfaces.getSurface(18, -29));
+        this.buffer.setBlockType(18, 7, -29, this.stone, this.cause);
+        Assert.assertEquals(-1, surfaces.getSurface(18, -29));
+        surfaces.invalidate(18, -29);
+        Assert.assertEquals(7, surfaces.getSurface(18, -29));
+        this.buffer.setBlockType(18, 12, -29, this.stone, this.cause);
+        surfaces.invalidateAll();
+        Assert.assertEquals(12, surfaces.getSurface(18, -29));
+    }
+
+    @Test
+    public void testDefaultPopulateInvalidates() {
+        final SurfaceCache surfaces = new SurfaceCache(this.buffer);
+        Assert.assertEquals(-1, surfaces.getSurface(19, -31));
+        final GenerationPopulator populator = (world, buffer, biomes) -> buffer.setBlockType(19, 2, -31, this.stone, this.cause);
+        populator.populate(null, this.buffer, null, surfaces);
+        Assert.assertEquals(2, surfaces.getSurface(19, -31));
+    }
+
+    @Test(expected = PositionOutOfBoundsException.class)
+    public void testOutOfBounds() {
+        new SurfaceCache(this.buffer).getSurface(20, -32);
+    }
+
+}
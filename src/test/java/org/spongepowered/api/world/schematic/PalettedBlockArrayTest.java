@@ -0,0 +1,130 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.schematic;
+
+import static org.mockito.Mockito.mock;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.spongepowered.api.block.BlockState;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public class PalettedBlockArrayTest {
+
+    @Test
+    public void testDefaultState() {
+        final BlockState air = mock(BlockState.class);
+        final PalettedBlockArray array = new PalettedBlockArray(new TestPalette(), 100, air);
+        for (int i = 0; i < array.size(); i++) {
+            Assert.assertSame(air, array.get(i));
+        }
+    }
+
+    @Test
+    public void testNonZeroDefaultState() {
+        final TestPalette palette = new TestPalette();
+        palette.getOrAssign(mock(BlockState.class));
+        final BlockState stone = mock(BlockState.class);
+        final PalettedBlockArray array = new PalettedBlockArray(palette, 100, stone);
+        for (int i = 0; i < array.size(); i++) {
+            Assert.assertSame(stone, array.get(i));
+        }
+    }
+
+    @Test
+    public void testResize() {
+        final BlockState air = mock(BlockState.class);
+        final PalettedBlockArray array = new PalettedBlockArray(new TestPalette(), 1000, air);
+        Assert.assertEquals(4, array.getBitsPerEntry());
+        final BlockState[] states = new BlockState[40];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = mock(BlockState.class);
+        }
+        for (int i = 0; i < array.size(); i += 3) {
+            array.set(i, states[i % states.length]);
+        }
+        Assert.assertEquals(6, array.getBitsPerEntry());
+        for (int i = 0; i < array.size(); i++) {
+            Assert.assertSame(i % 3 == 0 ? states[i % states.length] : air, array.get(i));
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOutOfBounds() {
+        new PalettedBlockArray(new TestPalette(), 10, mock(BlockState.class)).get(10);
+    }
+
+    private static final class TestPalette implements BlockPalette {
+
+        private final List<BlockState> states = new ArrayList<>();
+
+        @Override
+        public BlockPaletteType getType() {
+            return BlockPaletteTypes.LOCAL;
+        }
+
+        @Override
+        public int getHighestId() {
+            return this.states.size() - 1;
+        }
+
+        @Override
+        public Optional<BlockState> get(int id) {
+            return id < this.states.size() ? Optional.ofNullable(this.states.get(id)) : Optional.empty();
+        }
+
+        @Override
+        public Optional<Integer> get(BlockState state) {
+            final int id = this.states.indexOf(state);
+            return id == -1 ? Optional.empty() : Optional.of(id);
+        }
+
+        @Override
+        public int getOrAssign(BlockState state) {
+            final int id = this.states.indexOf(state);
+            if (id != -1) {
+                return id;
+            }
+            this.states.add(state);
+            return this.states.size() - 1;
+        }
+
+        @Override
+        public boolean remove(BlockState state) {
+            return false;
+        }
+
+        @Override
+        public Collection<BlockState> getEntries() {
+            return this.states;
+        }
+
+    }
+
+}